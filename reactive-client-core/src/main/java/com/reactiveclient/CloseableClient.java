@@ -0,0 +1,13 @@
+package com.reactiveclient;
+
+/**
+ * Implemented by the clients built by {@link ReactiveClientBuilder}.
+ */
+public interface CloseableClient extends AutoCloseable {
+
+    /**
+     * Sends the pending batches and waits for the queued fire and forget calls, then releases the connection pool and event loops of the client.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,17 @@
+package com.reactiveclient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Implemented by the clients built by {@link ReactiveClientBuilder}.
+ */
+public interface ConnectionWarmUp {
+
+    /**
+     * Opens connections to the url of the client in parallel and returns them to its pool.
+     *
+     * @param connections number of connections to open
+     * @return the number of connections successfully opened
+     */
+    Mono<Integer> warmUp(int connections);
+}
@@ -0,0 +1,32 @@
+package com.reactiveclient;
+
+import com.reactiveclient.client.WebClientFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.net.URI;
+
+class ConnectionWarmUpInvocationHandler implements InvocationHandler {
+    private final InvocationHandler delegate;
+    private final WebClientFactory webClientFactory;
+    private final URI uri;
+
+    ConnectionWarmUpInvocationHandler(InvocationHandler delegate, WebClientFactory webClientFactory, URI uri) {
+        this.delegate = delegate;
+        this.webClientFactory = webClientFactory;
+        this.uri = uri;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == ConnectionWarmUp.class) {
+            return webClientFactory.warmUp(uri, (Integer) args[0]);
+        }
+        if (method.getDeclaringClass() == CloseableClient.class || method.getDeclaringClass() == AutoCloseable.class) {
+            delegate.invoke(proxy, method, args);
+            webClientFactory.close();
+            return null;
+        }
+        return delegate.invoke(proxy, method, args);
+    }
+}
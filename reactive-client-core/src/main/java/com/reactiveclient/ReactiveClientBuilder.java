@@ -1,13 +1,27 @@
 package com.reactiveclient;
 
+import com.reactiveclient.client.ClientOptions;
 import com.reactiveclient.client.DefaultWebClientFactory;
+import com.reactiveclient.client.ExtendedClientHttpConnector;
+import com.reactiveclient.client.WebClientFactory;
+import com.reactiveclient.client.codec.ClientCodec;
+import com.reactiveclient.client.codec.JsonCodec;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.client.leak.BufferLeakDetector;
+import com.reactiveclient.client.limit.Bulkhead;
+import com.reactiveclient.client.limit.ConcurrencyLimiter;
+import com.reactiveclient.client.limit.RateLimiter;
+import com.reactiveclient.client.limit.WeightedFairQueue;
+import com.reactiveclient.client.tls.TlsOptions;
 import com.reactiveclient.handler.DefaultReactiveInvocationHandlerFactory;
 import com.reactiveclient.handler.ReactiveInvocationHandlerFactory;
 import com.reactiveclient.metadata.MethodMetadata;
 import com.reactiveclient.metadata.MethodMetadataFactory;
 import com.reactiveclient.metadata.request.ReactiveRequest;
-import org.springframework.web.reactive.function.client.WebClient;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.resolver.AddressResolverGroup;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.net.URI;
 import java.util.ArrayList;
@@ -18,10 +32,12 @@ import java.util.function.Consumer;
 public class ReactiveClientBuilder {
     private List<ErrorDecoder> errorDecoders;
     private List<Consumer<ReactiveRequest>> requestInterceptors;
+    private ClientOptions.Builder clientOptions;
 
     private ReactiveClientBuilder() {
         this.errorDecoders = new ArrayList<>();
         this.requestInterceptors = new ArrayList<>();
+        this.clientOptions = ClientOptions.newBuilder();
     }
 
     public static ReactiveClientBuilder builder() {
@@ -59,9 +75,124 @@ public class ReactiveClientBuilder {
         return this;
     }
 
+    public ReactiveClientBuilder codecs(Iterable<ClientCodec> codecs) {
+        this.clientOptions.codecs(codecs);
+        return this;
+    }
+
+    public ReactiveClientBuilder codec(ClientCodec codec) {
+        this.clientOptions.codec(codec);
+        return this;
+    }
+
+    public ReactiveClientBuilder allocator(ByteBufAllocator allocator) {
+        this.clientOptions.allocator(allocator);
+        return this;
+    }
+
+    public ReactiveClientBuilder leakDetector(BufferLeakDetector leakDetector) {
+        this.clientOptions.leakDetector(leakDetector);
+        return this;
+    }
+
+    public ReactiveClientBuilder fireAndForgetDispatcher(FireAndForgetDispatcher fireAndForgetDispatcher) {
+        this.clientOptions.fireAndForgetDispatcher(fireAndForgetDispatcher);
+        return this;
+    }
+
+    public ReactiveClientBuilder jsonCodec(JsonCodec jsonCodec) {
+        this.clientOptions.jsonCodec(jsonCodec);
+        return this;
+    }
+
+    public ReactiveClientBuilder name(String name) {
+        this.clientOptions.name(name);
+        return this;
+    }
+
+    public ReactiveClientBuilder maxConnections(Integer maxConnections) {
+        this.clientOptions.maxConnections(maxConnections);
+        return this;
+    }
+
+    public ReactiveClientBuilder acquireTimeout(Long acquireTimeout) {
+        this.clientOptions.acquireTimeout(acquireTimeout);
+        return this;
+    }
+
+    public ReactiveClientBuilder connectTimeout(long connectTimeout) {
+        this.clientOptions.connectTimeout(connectTimeout);
+        return this;
+    }
+
+    public ReactiveClientBuilder responseTimeout(long responseTimeout) {
+        this.clientOptions.responseTimeout(responseTimeout);
+        return this;
+    }
+
+    public ReactiveClientBuilder readIdleTimeout(long readIdleTimeout) {
+        this.clientOptions.readIdleTimeout(readIdleTimeout);
+        return this;
+    }
+
+    public ReactiveClientBuilder deadline(long deadline) {
+        this.clientOptions.deadline(deadline);
+        return this;
+    }
+
+    public ReactiveClientBuilder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.clientOptions.concurrencyLimiter(concurrencyLimiter);
+        return this;
+    }
+
+    public ReactiveClientBuilder rateLimiter(RateLimiter rateLimiter) {
+        this.clientOptions.rateLimiter(rateLimiter);
+        return this;
+    }
+
+    public ReactiveClientBuilder resolver(AddressResolverGroup<?> resolver) {
+        this.clientOptions.resolver(resolver);
+        return this;
+    }
+
+    public ReactiveClientBuilder tls(TlsOptions tlsOptions) {
+        this.clientOptions.tls(tlsOptions);
+        return this;
+    }
+
+    public ReactiveClientBuilder priorityQueue(WeightedFairQueue priorityQueue) {
+        this.clientOptions.priorityQueue(priorityQueue);
+        return this;
+    }
+
+    public ReactiveClientBuilder bulkhead(int maxConcurrentCalls) {
+        this.clientOptions.bulkhead(maxConcurrentCalls);
+        return this;
+    }
+
+    public ReactiveClientBuilder bulkhead(Bulkhead bulkhead) {
+        this.clientOptions.bulkhead(bulkhead);
+        return this;
+    }
+
+    public ReactiveClientBuilder eventLoopThreads(int eventLoopThreads) {
+        this.clientOptions.eventLoopThreads(eventLoopThreads);
+        return this;
+    }
+
+    public ReactiveClientBuilder compression(boolean compression) {
+        this.clientOptions.compression(compression);
+        return this;
+    }
+
+    public ReactiveClientBuilder connector(ExtendedClientHttpConnector connector) {
+        this.clientOptions.connector(connector);
+        return this;
+    }
+
     public <T> T build(Class<T> target, String uri) {
         MethodMetadataFactory methodMetadataFactory = new MethodMetadataFactory();
-        WebClient webClient = new DefaultWebClientFactory().create(errorDecoders);
+        WebClientFactory webClientFactory = new DefaultWebClientFactory(errorDecoders, clientOptions.build());
         List<MethodMetadata> requestTemplates = methodMetadataFactory.build(target, URI.create(uri));
 
         ReactiveInvocationHandlerFactory reactiveInvocationHandlerFactory = new DefaultReactiveInvocationHandlerFactory();
@@ -70,6 +201,11 @@ public class ReactiveClientBuilder {
                 .reduce(Consumer::andThen)
                 .orElse(reactiveRequest ->{});
 
-        return (T) Proxy.newProxyInstance(target.getClassLoader(), new Class<?>[]{target}, reactiveInvocationHandlerFactory.create(requestTemplates, webClient, requestInterceptor));
+        InvocationHandler invocationHandler = new ConnectionWarmUpInvocationHandler(
+                reactiveInvocationHandlerFactory.create(requestTemplates, webClientFactory, requestInterceptor),
+                webClientFactory,
+                URI.create(uri));
+
+        return (T) Proxy.newProxyInstance(target.getClassLoader(), new Class<?>[]{target, ConnectionWarmUp.class, CloseableClient.class}, invocationHandler);
     }
 }
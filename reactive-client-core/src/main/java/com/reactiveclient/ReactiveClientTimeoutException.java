@@ -0,0 +1,8 @@
+package com.reactiveclient;
+
+public class ReactiveClientTimeoutException extends RuntimeException {
+
+    public ReactiveClientTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.reactiveclient;
+
+public class RequestRejectedException extends RuntimeException {
+
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
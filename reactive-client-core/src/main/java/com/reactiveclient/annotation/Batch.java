@@ -0,0 +1,33 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a single item method, such as {@code Mono<User> getUser(String id)}, to a batch endpoint.
+ * Concurrent calls are collected for {@link #window()} milliseconds or up to {@link #maxSize()} calls,
+ * their arguments are sent in one POST to {@link #path()} as a list, and the items of the response
+ * are dispatched back to the calls by their {@link #key()} property.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batch {
+
+    /**
+     * Path of the batch endpoint, relative to the client.
+     */
+    String path();
+
+    /**
+     * Property of the response items holding the argument of the call.
+     */
+    String key() default "id";
+
+    int maxSize() default 100;
+
+    long window() default 10;
+}
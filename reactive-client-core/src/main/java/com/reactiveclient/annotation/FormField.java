@@ -0,0 +1,22 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field of an {@code application/x-www-form-urlencoded} request body. Collections and arrays
+ * are sent as repeated fields, and null values are left out.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FormField {
+
+    /**
+     * Name of the field.
+     */
+    String value();
+}
@@ -0,0 +1,23 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Priority class of the requests of a client interface or of a single method, the method
+ * annotation overrides the interface one. Only used when the client has a
+ * {@code WeightedFairQueue}, which defines the weight of each class.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Priority {
+
+    /**
+     * Name of the priority class.
+     */
+    String value();
+}
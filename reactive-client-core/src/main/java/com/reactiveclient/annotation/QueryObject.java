@@ -0,0 +1,17 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sends the readable properties of a parameter as query parameters named after them. Collections
+ * and arrays are sent as repeated parameters, and null properties are left out.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryObject {
+}
@@ -0,0 +1,34 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Token bucket rate limit of a client interface or of a single method.
+ * All the methods of an annotated interface share one bucket, an annotated
+ * method gets a bucket of its own on top of it.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimit {
+
+    /**
+     * Rate at which the bucket is refilled.
+     */
+    double permitsPerSecond();
+
+    /**
+     * Size of the bucket, i.e. the number of requests that can be sent at once.
+     */
+    int burst() default 1;
+
+    /**
+     * Maximum time in milliseconds a request is delayed waiting for a permit before
+     * failing with a {@code RequestRejectedException}, 0 fails fast, a negative value waits as long as needed.
+     */
+    long maxWait() default 0;
+}
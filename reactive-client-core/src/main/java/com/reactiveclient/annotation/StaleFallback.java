@@ -0,0 +1,40 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the last responses of a GET method returning a {@code Mono}, per arguments, and serves them
+ * when they are recent enough instead of, or when failing, calling the server.
+ * All durations are ages in milliseconds since the response was received.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StaleFallback {
+
+    /**
+     * Age under which a response is served without calling the server.
+     */
+    long maxAge() default 0;
+
+    /**
+     * Age under which a response is served right away while a single background call refreshes it.
+     * Either 0 or at least {@link #maxAge()}.
+     */
+    long staleWhileRevalidate() default 0;
+
+    /**
+     * Age under which a response is served when the call fails.
+     * Either 0 or at least {@link #maxAge()}, so a {@code maxAge} over a minute needs a larger value.
+     */
+    long staleIfError() default 60000;
+
+    /**
+     * Maximum number of responses kept, the least recently used ones are evicted first.
+     */
+    int maxEntries() default 256;
+}
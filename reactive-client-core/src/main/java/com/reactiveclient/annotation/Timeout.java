@@ -0,0 +1,33 @@
+package com.reactiveclient.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timeouts of a client interface or of a single method, in milliseconds.
+ * Values declared on a method override the ones declared on the interface,
+ * a negative value keeps the inherited one.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Timeout {
+
+    /**
+     * Maximum time between the start of the request and the first byte of the response.
+     */
+    long response() default -1;
+
+    /**
+     * Maximum time between two chunks of the response.
+     */
+    long readIdle() default -1;
+
+    /**
+     * Maximum time for the whole exchange, propagated to the server in the {@code X-Request-Timeout} header.
+     */
+    long deadline() default -1;
+}
@@ -0,0 +1,67 @@
+package com.reactiveclient.client;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * Snapshot of the memory of a buffer allocator. The used memory is reserved by the allocator,
+ * and the pinned memory is held by buffers not released yet, a pinned memory growing over time reveals a leak.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class AllocatorMetrics {
+    private final long usedDirectMemory;
+    private final long usedHeapMemory;
+    private final long pinnedDirectMemory;
+    private final long pinnedHeapMemory;
+    private final long activeAllocations;
+    private final int threadLocalCaches;
+
+    private AllocatorMetrics(long usedDirectMemory, long usedHeapMemory, long pinnedDirectMemory, long pinnedHeapMemory,
+                             long activeAllocations, int threadLocalCaches) {
+        this.usedDirectMemory = usedDirectMemory;
+        this.usedHeapMemory = usedHeapMemory;
+        this.pinnedDirectMemory = pinnedDirectMemory;
+        this.pinnedHeapMemory = pinnedHeapMemory;
+        this.activeAllocations = activeAllocations;
+        this.threadLocalCaches = threadLocalCaches;
+    }
+
+    public static AllocatorMetrics of(ClientOptions clientOptions) {
+        return of(clientOptions.getAllocator());
+    }
+
+    public static AllocatorMetrics of(ByteBufAllocator allocator) {
+        if (allocator instanceof PooledByteBufAllocator) {
+            PooledByteBufAllocatorMetric metric = ((PooledByteBufAllocator) allocator).metric();
+            return new AllocatorMetrics(metric.usedDirectMemory(), metric.usedHeapMemory(),
+                    activeBytes(metric.directArenas()), activeBytes(metric.heapArenas()),
+                    activeAllocations(metric.directArenas()) + activeAllocations(metric.heapArenas()),
+                    metric.numThreadLocalCaches());
+        } else if (allocator instanceof ByteBufAllocatorMetricProvider) {
+            // unpooled memory is pinned as long as it is used
+            ByteBufAllocatorMetric metric = ((ByteBufAllocatorMetricProvider) allocator).metric();
+            return new AllocatorMetrics(metric.usedDirectMemory(), metric.usedHeapMemory(),
+                    metric.usedDirectMemory(), metric.usedHeapMemory(), 0, 0);
+        }
+        return new AllocatorMetrics(0, 0, 0, 0, 0, 0);
+    }
+
+    private static long activeBytes(List<PoolArenaMetric> arenas) {
+        return arenas.stream().mapToLong(PoolArenaMetric::numActiveBytes).sum();
+    }
+
+    private static long activeAllocations(List<PoolArenaMetric> arenas) {
+        return arenas.stream().mapToLong(PoolArenaMetric::numActiveAllocations).sum();
+    }
+}
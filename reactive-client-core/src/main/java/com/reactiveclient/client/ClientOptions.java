@@ -0,0 +1,277 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.client.codec.ClientCodec;
+import com.reactiveclient.client.codec.JsonCodec;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.client.leak.BufferLeakDetector;
+import com.reactiveclient.client.limit.Bulkhead;
+import com.reactiveclient.client.limit.ConcurrencyLimiter;
+import com.reactiveclient.client.limit.RateLimiter;
+import com.reactiveclient.client.limit.WeightedFairQueue;
+import com.reactiveclient.client.tls.TlsOptions;
+import com.reactiveclient.metadata.Timeouts;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.resolver.AddressResolverGroup;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class ClientOptions {
+    public static final long DEFAULT_ACQUIRE_TIMEOUT = 45000L;
+
+    private String name;
+    private Integer maxConnections;
+    private Long acquireTimeout;
+    private Timeouts timeouts;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private RateLimiter rateLimiter;
+    private AddressResolverGroup<?> resolver;
+    private TlsOptions tlsOptions;
+    private WeightedFairQueue priorityQueue;
+    private Bulkhead bulkhead;
+    private int eventLoopThreads;
+    private boolean compression;
+    private ExtendedClientHttpConnector connector;
+    private List<ClientCodec> codecs;
+    private JsonCodec jsonCodec;
+    private ByteBufAllocator allocator;
+    private BufferLeakDetector leakDetector;
+    private FireAndForgetDispatcher fireAndForgetDispatcher;
+
+    private ClientOptions(Builder builder) {
+        name = builder.name;
+        maxConnections = builder.maxConnections;
+        acquireTimeout = builder.acquireTimeout;
+        timeouts = Timeouts.of(builder.connectTimeout, builder.responseTimeout, builder.readIdleTimeout, builder.deadline);
+        concurrencyLimiter = builder.concurrencyLimiter;
+        rateLimiter = builder.rateLimiter;
+        resolver = builder.resolver;
+        tlsOptions = builder.tlsOptions;
+        priorityQueue = builder.priorityQueue;
+        connector = builder.connector;
+        codecs = Collections.unmodifiableList(new ArrayList<>(builder.codecs));
+        jsonCodec = builder.jsonCodec;
+        leakDetector = builder.leakDetector;
+        allocator = leakDetector != null ? leakDetector : builder.allocator;
+        fireAndForgetDispatcher = builder.fireAndForgetDispatcher;
+        eventLoopThreads = builder.eventLoopThreads;
+        compression = builder.compression;
+        if (builder.bulkhead != null) {
+            bulkhead = builder.bulkhead;
+        } else if (builder.maxConcurrentCalls > 0) {
+            bulkhead = new Bulkhead(name, builder.maxConcurrentCalls);
+        }
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static ClientOptions defaults() {
+        return newBuilder().build();
+    }
+
+    public static class Builder {
+        private String name;
+        private Integer maxConnections;
+        private Long acquireTimeout;
+        private long connectTimeout;
+        private long responseTimeout;
+        private long readIdleTimeout;
+        private long deadline;
+        private ConcurrencyLimiter concurrencyLimiter;
+        private RateLimiter rateLimiter;
+        private AddressResolverGroup<?> resolver;
+        private TlsOptions tlsOptions;
+        private WeightedFairQueue priorityQueue;
+        private int maxConcurrentCalls;
+        private Bulkhead bulkhead;
+        private int eventLoopThreads;
+        private boolean compression;
+        private ExtendedClientHttpConnector connector;
+        private List<ClientCodec> codecs;
+        private JsonCodec jsonCodec;
+        private ByteBufAllocator allocator;
+        private BufferLeakDetector leakDetector;
+        private FireAndForgetDispatcher fireAndForgetDispatcher;
+
+        private Builder() {
+            allocator = PooledByteBufAllocator.DEFAULT;
+            codecs = new ArrayList<>();
+            name = "reactive-client";
+            acquireTimeout = DEFAULT_ACQUIRE_TIMEOUT;
+            connectTimeout = Timeouts.NONE;
+            responseTimeout = Timeouts.NONE;
+            readIdleTimeout = Timeouts.NONE;
+            deadline = Timeouts.NONE;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder maxConnections(Integer maxConnections) {
+            if (maxConnections == null || maxConnections <= 0) {
+                throw new IllegalArgumentException("maxConnections must be strictly positive");
+            }
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Builder acquireTimeout(Long acquireTimeout) {
+            if (acquireTimeout == null || acquireTimeout < 0) {
+                throw new IllegalArgumentException("acquireTimeout must be positive");
+            }
+            this.acquireTimeout = acquireTimeout;
+            return this;
+        }
+
+        public Builder connectTimeout(long connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public Builder responseTimeout(long responseTimeout) {
+            this.responseTimeout = responseTimeout;
+            return this;
+        }
+
+        public Builder readIdleTimeout(long readIdleTimeout) {
+            this.readIdleTimeout = readIdleTimeout;
+            return this;
+        }
+
+        public Builder deadline(long deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public Builder concurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+            return this;
+        }
+
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        public Builder resolver(AddressResolverGroup<?> resolver) {
+            this.resolver = resolver;
+            return this;
+        }
+
+        public Builder tls(TlsOptions tlsOptions) {
+            this.tlsOptions = tlsOptions;
+            return this;
+        }
+
+        public Builder priorityQueue(WeightedFairQueue priorityQueue) {
+            this.priorityQueue = priorityQueue;
+            return this;
+        }
+
+        /**
+         * Maximum number of concurrent calls of the client, over which calls are rejected.
+         */
+        public Builder bulkhead(int maxConcurrentCalls) {
+            if (maxConcurrentCalls <= 0) {
+                throw new IllegalArgumentException("maxConcurrentCalls must be strictly positive");
+            }
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * Bulkhead shared with other clients, limiting their concurrent calls together.
+         */
+        public Builder bulkhead(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+            return this;
+        }
+
+        /**
+         * Number of threads of an event loop group dedicated to the client, instead of the shared one.
+         */
+        public Builder eventLoopThreads(int eventLoopThreads) {
+            if (eventLoopThreads <= 0) {
+                throw new IllegalArgumentException("eventLoopThreads must be strictly positive");
+            }
+            this.eventLoopThreads = eventLoopThreads;
+            return this;
+        }
+
+        /**
+         * Sends {@code Accept-Encoding: gzip} and inflates compressed responses, with the Reactor Netty transport.
+         */
+        public Builder compression(boolean compression) {
+            this.compression = compression;
+            return this;
+        }
+
+        /**
+         * Transport used instead of Reactor Netty, the pool, resolver, TLS, event loop and compression options are then ignored.
+         */
+        public Builder connector(ExtendedClientHttpConnector connector) {
+            this.connector = connector;
+            return this;
+        }
+
+        public Builder codecs(Iterable<ClientCodec> codecs) {
+            this.codecs.clear();
+            for (ClientCodec codec : codecs) {
+                this.codecs.add(codec);
+            }
+            return this;
+        }
+
+        public Builder codec(ClientCodec codec) {
+            this.codecs.add(codec);
+            return this;
+        }
+
+        /**
+         * JSON engine reading the responses and writing the bodies of each method with a reader and writer resolved once.
+         */
+        public Builder jsonCodec(JsonCodec jsonCodec) {
+            this.jsonCodec = jsonCodec;
+            return this;
+        }
+
+        /**
+         * Allocator of the request and response buffers, pooled direct buffers by default.
+         */
+        public Builder allocator(ByteBufAllocator allocator) {
+            if (allocator == null) {
+                throw new IllegalArgumentException("allocator must not be null");
+            }
+            this.allocator = allocator;
+            return this;
+        }
+
+        /**
+         * Diagnostic mode tracking the buffers of each method until they are released, it replaces the allocator.
+         */
+        public Builder leakDetector(BufferLeakDetector leakDetector) {
+            this.leakDetector = leakDetector;
+            return this;
+        }
+
+        /**
+         * Queue running the calls of the {@code void} methods, a dispatcher closed with the client is created by default.
+         */
+        public Builder fireAndForgetDispatcher(FireAndForgetDispatcher fireAndForgetDispatcher) {
+            this.fireAndForgetDispatcher = fireAndForgetDispatcher;
+            return this;
+        }
+
+        public ClientOptions build() {
+            return new ClientOptions(this);
+        }
+    }
+}
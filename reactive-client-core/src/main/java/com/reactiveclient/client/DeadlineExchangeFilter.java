@@ -0,0 +1,52 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.ReactiveClientTimeoutException;
+import com.reactiveclient.metadata.Timeouts;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Starts the overall deadline when the call is subscribed, before the bulkhead, rate limiters, concurrency limiter,
+ * priority queue and pool acquire, and fails the call if no response arrived by then. The deadline is kept for the
+ * request until the exchange reads it, so the connection enforces the same instant on the body.
+ */
+class DeadlineExchangeFilter implements ExchangeFilterFunction {
+    private final Timeouts timeouts;
+
+    private final Map<ClientRequest, Long> deadlines;
+
+    DeadlineExchangeFilter(Timeouts timeouts) {
+        this.timeouts = timeouts;
+        this.deadlines = Collections.synchronizedMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!timeouts.hasDeadline()) {
+            return next.exchange(request);
+        }
+        return Mono.defer(() -> {
+            Long deadline = timeouts.deadlineFromNow();
+            deadlines.put(request, deadline);
+            return next.exchange(request)
+                    .timeout(Duration.ofMillis(timeouts.getDeadline()), Mono.error(new ReactiveClientTimeoutException("Request deadline exceeded")))
+                    .doFinally(signal -> deadlines.remove(request, deadline));
+        });
+    }
+
+    /**
+     * Deadline started for the request by this filter, or a deadline starting now when the request did not go through it.
+     */
+    long deadline(ClientRequest request) {
+        Long deadline = deadlines.get(request);
+        return deadline != null ? deadline : timeouts.deadlineFromNow();
+    }
+}
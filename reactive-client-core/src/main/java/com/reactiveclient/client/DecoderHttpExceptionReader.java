@@ -1,12 +1,14 @@
 package com.reactiveclient.client;
 
 import com.reactiveclient.ErrorDecoder;
+import com.reactiveclient.client.codec.DataBuffers;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.reactive.ClientHttpResponse;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+
 class DecoderHttpExceptionReader implements HttpExceptionReader {
 
     private ErrorDecoder errorDecoder;
@@ -31,9 +33,8 @@ class DecoderHttpExceptionReader implements HttpExceptionReader {
     }
 
     private <T> Flux<T> decodeInternal(ClientHttpResponse inputMessage) {
-        return Flux.from(inputMessage.getBody())
-                .map(dataBuffer -> {
-                    throw errorDecoder.decode(inputMessage.getStatusCode(), dataBuffer.asInputStream());
-                });
+        // the whole body is copied so that the pooled buffers are released before decoding
+        return DataBuffers.join(inputMessage.getBody())
+                .flatMapMany(bytes -> Flux.error(errorDecoder.decode(inputMessage.getStatusCode(), new ByteArrayInputStream(bytes))));
     }
 }
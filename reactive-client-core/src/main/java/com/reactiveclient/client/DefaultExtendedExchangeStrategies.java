@@ -1,5 +1,6 @@
 package com.reactiveclient.client;
 
+import com.reactiveclient.client.codec.ClientCodec;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.codec.HttpMessageWriter;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -7,18 +8,38 @@ import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 class DefaultExtendedExchangeStrategies implements ExtendedExchangeStrategies {
 
     private List<HttpExceptionReader> exceptionReaders;
 
-    private ExchangeStrategies exchangeStrategies;
+    private List<HttpMessageReader<?>> messageReaders;
 
-    DefaultExtendedExchangeStrategies(List<HttpExceptionReader> exceptionReaders) {
+    private List<HttpMessageWriter<?>> messageWriters;
+
+    DefaultExtendedExchangeStrategies(List<HttpExceptionReader> exceptionReaders, List<ClientCodec> codecs) {
+        this(exceptionReaders, codecs, ExchangeStrategies.withDefaults().messageReaders().get(), ExchangeStrategies.withDefaults().messageWriters().get());
+    }
+
+    private DefaultExtendedExchangeStrategies(List<HttpExceptionReader> exceptionReaders, List<ClientCodec> codecs,
+                                              Stream<HttpMessageReader<?>> messageReaders, Stream<HttpMessageWriter<?>> messageWriters) {
         this.exceptionReaders = unmodifiableCopy(exceptionReaders);
-        this.exchangeStrategies = ExchangeStrategies.withDefaults();
+        // the client codecs come first to take precedence over the other ones for the same media type
+        this.messageReaders = unmodifiableCopy(Stream.concat(codecs.stream().map(ClientCodec::getReader).filter(Objects::nonNull), messageReaders)
+                .collect(Collectors.toList()));
+        this.messageWriters = unmodifiableCopy(Stream.concat(codecs.stream().map(ClientCodec::getWriter).filter(Objects::nonNull), messageWriters)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns strategies trying the given codec before the current ones.
+     */
+    DefaultExtendedExchangeStrategies withCodec(ClientCodec codec) {
+        return new DefaultExtendedExchangeStrategies(exceptionReaders, Collections.singletonList(codec), messageReaders.stream(), messageWriters.stream());
     }
 
     private <T> List<T> unmodifiableCopy(List<? extends T> list) {
@@ -32,11 +53,11 @@ class DefaultExtendedExchangeStrategies implements ExtendedExchangeStrategies {
 
     @Override
     public Supplier<Stream<HttpMessageReader<?>>> messageReaders() {
-        return exchangeStrategies.messageReaders();
+        return messageReaders::stream;
     }
 
     @Override
     public Supplier<Stream<HttpMessageWriter<?>>> messageWriters() {
-        return exchangeStrategies.messageWriters();
+        return messageWriters::stream;
     }
 }
@@ -1,27 +1,176 @@
 package com.reactiveclient.client;
 
+import com.reactiveclient.ErrorDecoder;
+import com.reactiveclient.client.codec.ClientCodecs;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.client.leak.LeakTrackingClientHttpConnector;
+import com.reactiveclient.client.limit.BulkheadExchangeFilter;
+import com.reactiveclient.client.limit.ConcurrencyLimitExchangeFilter;
+import com.reactiveclient.client.limit.PriorityExchangeFilter;
+import com.reactiveclient.client.limit.RateLimitExchangeFilter;
+import com.reactiveclient.client.limit.RateLimiter;
+import com.reactiveclient.metadata.MethodMetadata;
+import com.reactiveclient.metadata.RateLimitPolicy;
+import com.reactiveclient.metadata.Timeouts;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.reactiveclient.ErrorDecoders.stringErrorDecoder;
 
 public class DefaultWebClientFactory implements WebClientFactory {
-    @Override
-    public WebClient create(List<com.reactiveclient.ErrorDecoder> errorDecoders) {
-        errorDecoders.add(stringErrorDecoder(HttpStatus::is4xxClientError, HttpClientErrorException.class));
-        errorDecoders.add(stringErrorDecoder(HttpStatus::is5xxServerError, HttpServerErrorException.class));
-        List<HttpExceptionReader> httpExceptionReaders = errorDecoders.stream()
+    private final ClientOptions clientOptions;
+    private final ExtendedClientHttpConnector connector;
+    private final DefaultExtendedExchangeStrategies strategies;
+    private final List<ExchangeFilterFunction> clientExchangeFilters;
+    private final Map<RateLimitPolicy, RateLimiter> clientRateLimiters;
+    private final boolean ownsConnector;
+    private volatile FireAndForgetDispatcher defaultDispatcher;
+
+    public DefaultWebClientFactory(List<ErrorDecoder> errorDecoders, ClientOptions clientOptions) {
+        List<ErrorDecoder> allErrorDecoders = new ArrayList<>(errorDecoders);
+        allErrorDecoders.add(stringErrorDecoder(HttpStatus::is4xxClientError, HttpClientErrorException.class));
+        allErrorDecoders.add(stringErrorDecoder(HttpStatus::is5xxServerError, HttpServerErrorException.class));
+        List<HttpExceptionReader> httpExceptionReaders = allErrorDecoders.stream()
                 .map(DecoderHttpExceptionReader::new)
                 .collect(Collectors.toList());
 
+        this.clientOptions = clientOptions;
+        this.ownsConnector = clientOptions.getConnector() == null;
+        this.connector = ownsConnector ? new ReactorExtendedClientHttpConnector(clientOptions) : clientOptions.getConnector();
+        this.strategies = new DefaultExtendedExchangeStrategies(httpExceptionReaders, clientOptions.getCodecs());
+        this.clientExchangeFilters = new ArrayList<>();
+        if (clientOptions.getConcurrencyLimiter() != null) {
+            clientExchangeFilters.add(new ConcurrencyLimitExchangeFilter(clientOptions.getConcurrencyLimiter()));
+        }
+        this.clientRateLimiters = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public WebClient create(MethodMetadata methodMetadata) {
+        Timeouts timeouts = clientOptions.getTimeouts().override(methodMetadata.getTimeouts());
+        ExtendedExchangeStrategies methodStrategies = clientOptions.getJsonCodec() != null ?
+                strategies.withCodec(ClientCodecs.precompiledJson(clientOptions.getJsonCodec(), responseElementType(methodMetadata), bodyElementType(methodMetadata))) :
+                strategies;
+        ExtendedClientHttpConnector methodConnector = clientOptions.getLeakDetector() != null ?
+                new LeakTrackingClientHttpConnector(connector, clientOptions.getLeakDetector(), owner(methodMetadata)) :
+                connector;
+        DeadlineExchangeFilter deadlineFilter = new DeadlineExchangeFilter(timeouts);
+        ExchangeFunction exchangeFunction = new ExtendedExchangeFunction(methodConnector, methodStrategies, timeouts, deadlineFilter);
+        if (clientOptions.getPriorityQueue() != null) {
+            exchangeFunction = exchangeFunction.filter(new PriorityExchangeFilter(clientOptions.getPriorityQueue(), methodMetadata.getPriority()));
+        }
+        for (ExchangeFilterFunction exchangeFilter : clientExchangeFilters) {
+            exchangeFunction = exchangeFunction.filter(exchangeFilter);
+        }
+        if (clientOptions.getBulkhead() != null) {
+            exchangeFunction = exchangeFunction.filter(new BulkheadExchangeFilter(clientOptions.getBulkhead()));
+        }
+        if (methodMetadata.getRateLimit() != null) {
+            exchangeFunction = exchangeFunction.filter(new RateLimitExchangeFilter(new RateLimiter(methodMetadata.getRateLimit())));
+        }
+        RateLimiter clientRateLimiter = clientRateLimiter(methodMetadata);
+        if (clientRateLimiter != null) {
+            exchangeFunction = exchangeFunction.filter(new RateLimitExchangeFilter(clientRateLimiter));
+        }
+        exchangeFunction = exchangeFunction.filter(deadlineFilter);
         return WebClient
                 .builder()
-                .exchangeFunction(new ExtendedExchangeFunction(httpExceptionReaders))
+                .exchangeFunction(exchangeFunction)
                 .build();
     }
+
+    @Override
+    public Mono<Integer> warmUp(URI uri, int connections) {
+        return connector.warmUp(uri, connections);
+    }
+
+    @Override
+    public FireAndForgetDispatcher getFireAndForgetDispatcher() {
+        if (clientOptions.getFireAndForgetDispatcher() != null) {
+            return clientOptions.getFireAndForgetDispatcher();
+        }
+        if (defaultDispatcher == null) {
+            synchronized (this) {
+                if (defaultDispatcher == null) {
+                    defaultDispatcher = FireAndForgetDispatcher.defaults();
+                }
+            }
+        }
+        return defaultDispatcher;
+    }
+
+    /**
+     * Drains the default dispatcher and releases the connector, a dispatcher or connector given in the options
+     * belongs to the caller and is left open.
+     */
+    @Override
+    public void close() {
+        if (defaultDispatcher != null) {
+            defaultDispatcher.close();
+        }
+        if (ownsConnector) {
+            connector.close();
+        }
+    }
+
+    private RateLimiter clientRateLimiter(MethodMetadata methodMetadata) {
+        if (clientOptions.getRateLimiter() != null) {
+            return clientOptions.getRateLimiter();
+        }
+        if (methodMetadata.getClientRateLimit() != null) {
+            return clientRateLimiters.computeIfAbsent(methodMetadata.getClientRateLimit(), RateLimiter::new);
+        }
+        return null;
+    }
+
+    private String owner(MethodMetadata methodMetadata) {
+        return methodMetadata.getTargetMethod().getDeclaringClass().getSimpleName() + "." + methodMetadata.getTargetMethod().getName();
+    }
+
+    /**
+     * The precompiled JSON codec buffers a whole body, so streams are left to the default decoder which splits
+     * JSON arrays as they arrive.
+     */
+    private ResolvableType responseElementType(MethodMetadata methodMetadata) {
+        ResolvableType returnType = methodMetadata.getResponseType();
+        if (!returnType.hasGenerics() || Flux.class.isAssignableFrom(returnType.resolve(Object.class))) {
+            return null;
+        }
+        ResolvableType elementType = returnType.getGeneric(0);
+        if (ServerSentEvent.class.isAssignableFrom(elementType.resolve(Object.class))) {
+            return null;
+        }
+        if (ResponseEntity.class.isAssignableFrom(elementType.resolve(Object.class))) {
+            elementType = elementType.getGeneric(0);
+            if (Publisher.class.isAssignableFrom(elementType.resolve(Object.class))) {
+                return null;
+            }
+        }
+        return elementType;
+    }
+
+    private ResolvableType bodyElementType(MethodMetadata methodMetadata) {
+        ResolvableType bodyType = methodMetadata.getBodyType();
+        if (bodyType != null && Publisher.class.isAssignableFrom(bodyType.resolve(Object.class))) {
+            return bodyType.getGeneric(0);
+        }
+        return bodyType;
+    }
 }
@@ -1,33 +1,39 @@
 package com.reactiveclient.client;
 
+import com.reactiveclient.metadata.Timeouts;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.http.client.reactive.ClientHttpResponse;
-import org.springframework.http.client.reactive.ReactorClientHttpRequest;
-import org.springframework.http.client.reactive.ReactorClientHttpResponse;
 import reactor.core.publisher.Mono;
-import reactor.ipc.netty.http.client.HttpClient;
 
 import java.net.URI;
 import java.util.function.Function;
 
-class ExtendedClientHttpConnector implements ClientHttpConnector {
-
-    private final HttpClient httpClient;
-
-    public ExtendedClientHttpConnector() {
-        this.httpClient = HttpClient.create();
-    }
+/**
+ * Transport of the exchanges of a client, aware of their timeouts.
+ */
+public interface ExtendedClientHttpConnector extends ClientHttpConnector {
 
     @Override
-    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
-
-        return httpClient
-                .request(io.netty.handler.codec.http.HttpMethod.valueOf(method.name()),
-                        uri.toString(),
-                        httpClientRequest -> requestCallback.apply(new ReactorClientHttpRequest(method, uri, httpClientRequest.failOnServerError(false))))
-                .map(ReactorClientHttpResponse::new);
+    default Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback) {
+        return connect(method, uri, requestCallback, Timeouts.none(), Timeouts.NONE);
     }
 
+    /**
+     * @param deadline {@link System#nanoTime()} at which the exchange fails, or {@link Timeouts#NONE}
+     */
+    Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                                     Timeouts timeouts, long deadline);
+
+    /**
+     * Opens up to {@code connections} connections to the given uri and emits how many succeeded.
+     */
+    Mono<Integer> warmUp(URI uri, int connections);
+
+    /**
+     * Releases the resources created by the connector, called when its client is closed.
+     */
+    default void close() {
+    }
 }
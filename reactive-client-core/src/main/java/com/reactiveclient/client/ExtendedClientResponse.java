@@ -1,6 +1,7 @@
 package com.reactiveclient.client;
 
 import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -10,7 +11,6 @@ import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyExtractor;
 import org.springframework.web.reactive.function.BodyExtractors;
-import org.springframework.web.reactive.function.client.ClientResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -22,7 +22,7 @@ import java.util.OptionalLong;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-class ExtendedClientResponse implements ClientResponse {
+class ExtendedClientResponse implements TypedClientResponse {
     private final ClientHttpResponse response;
 
     private final Headers headers;
@@ -65,6 +65,16 @@ class ExtendedClientResponse implements ClientResponse {
         return bodyToPublisher(BodyExtractors.toFlux(elementClass), ExceptionExtractors.toFlux());
     }
 
+    @Override
+    public <T> Mono<T> bodyToMono(ResolvableType elementType) {
+        return bodyToPublisher(BodyExtractors.toMono(elementType), ExceptionExtractors.toMono());
+    }
+
+    @Override
+    public <T> Flux<T> bodyToFlux(ResolvableType elementType) {
+        return bodyToPublisher(BodyExtractors.toFlux(elementType), ExceptionExtractors.toFlux());
+    }
+
     private <T extends Publisher<?>> T bodyToPublisher(BodyExtractor<T, ? super ClientHttpResponse> bodyExtractor,
                                                        ExceptionExtractor<T, ? super ClientHttpResponse> exceptionExtractor) {
 
@@ -88,9 +98,16 @@ class ExtendedClientResponse implements ClientResponse {
     }
 
     private class DefaultHeaders implements Headers {
+        // the connector copies the native headers on each getHeaders() call, read them once per response
+        private volatile HttpHeaders httpHeaders;
 
         private HttpHeaders delegate() {
-            return response.getHeaders();
+            HttpHeaders result = httpHeaders;
+            if (result == null) {
+                result = HttpHeaders.readOnlyHttpHeaders(response.getHeaders());
+                httpHeaders = result;
+            }
+            return result;
         }
 
         @Override
@@ -111,7 +128,7 @@ class ExtendedClientResponse implements ClientResponse {
 
         @Override
         public HttpHeaders asHttpHeaders() {
-            return HttpHeaders.readOnlyHttpHeaders(delegate());
+            return delegate();
         }
 
         private OptionalLong toOptionalLong(long value) {
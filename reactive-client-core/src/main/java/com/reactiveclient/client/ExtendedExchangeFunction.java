@@ -1,31 +1,46 @@
 package com.reactiveclient.client;
 
-import org.springframework.http.client.reactive.ClientHttpConnector;
+import com.reactiveclient.metadata.Timeouts;
 import org.springframework.util.Assert;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
 import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
 class ExtendedExchangeFunction implements ExchangeFunction {
-    private final ClientHttpConnector connector;
+    private final ExtendedClientHttpConnector connector;
 
     private final ExtendedExchangeStrategies strategies;
 
-    ExtendedExchangeFunction(List<HttpExceptionReader> httpExceptionReaders) {
-        this.connector = new ExtendedClientHttpConnector();
-        this.strategies = new DefaultExtendedExchangeStrategies(httpExceptionReaders);
+    private final Timeouts timeouts;
+
+    private final DeadlineExchangeFilter deadlines;
+
+    ExtendedExchangeFunction(ExtendedClientHttpConnector connector, ExtendedExchangeStrategies strategies, Timeouts timeouts, DeadlineExchangeFilter deadlines) {
+        this.connector = connector;
+        this.strategies = strategies;
+        this.timeouts = timeouts;
+        this.deadlines = deadlines;
     }
 
     @Override
     public Mono<ClientResponse> exchange(ClientRequest request) {
         Assert.notNull(request, "'request' must not be null");
 
-        return this.connector
-                .connect(request.method(), request.url(),  clientHttpRequest -> request.writeTo(clientHttpRequest, this.strategies))
+        return Mono.defer(() -> {
+            long deadline = deadlines.deadline(request);
+            return this.connector
+                    .connect(request.method(), request.url(), clientHttpRequest -> {
+                        if (deadline != Timeouts.NONE) {
+                            long remaining = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+                            clientHttpRequest.getHeaders().set(Timeouts.DEADLINE_HEADER, String.valueOf(remaining));
+                        }
+                        return request.writeTo(clientHttpRequest, this.strategies);
+                    }, timeouts, deadline);
+        })
                 .log("org.springframework.web.reactive.function.client", Level.FINE)
                 .map(clientHttpResponse -> new ExtendedClientResponse(clientHttpResponse, this.strategies));
     }
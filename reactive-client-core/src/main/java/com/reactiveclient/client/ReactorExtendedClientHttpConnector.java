@@ -0,0 +1,95 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.client.tls.TlsContext;
+import com.reactiveclient.metadata.Timeouts;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.client.reactive.ReactorClientHttpRequest;
+import org.springframework.http.client.reactive.ReactorClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.http.client.HttpClient;
+import reactor.ipc.netty.resources.LoopResources;
+import reactor.ipc.netty.resources.PoolResources;
+
+import java.net.URI;
+import java.util.function.Function;
+
+class ReactorExtendedClientHttpConnector implements ExtendedClientHttpConnector {
+
+    private final PoolResources poolResources;
+
+    private final LoopResources loopResources;
+
+    private final HttpClient httpClient;
+
+    public ReactorExtendedClientHttpConnector() {
+        this(ClientOptions.defaults());
+    }
+
+    public ReactorExtendedClientHttpConnector(ClientOptions clientOptions) {
+        Timeouts timeouts = clientOptions.getTimeouts();
+        this.poolResources = clientOptions.getMaxConnections() != null ?
+                PoolResources.fixed(clientOptions.getName(), clientOptions.getMaxConnections(), clientOptions.getAcquireTimeout()) :
+                PoolResources.elastic(clientOptions.getName());
+        this.loopResources = clientOptions.getEventLoopThreads() > 0 ?
+                LoopResources.create(clientOptions.getName(), clientOptions.getEventLoopThreads(), true) :
+                null;
+        this.httpClient = HttpClient.create(options -> {
+            options.poolResources(poolResources);
+            options.option(ChannelOption.ALLOCATOR, clientOptions.getAllocator());
+            options.compression(clientOptions.isCompression());
+            if (loopResources != null) {
+                options.loopResources(loopResources);
+            }
+            if (timeouts.hasConnect()) {
+                options.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) timeouts.getConnect());
+            }
+            if (clientOptions.getResolver() != null) {
+                options.resolver(clientOptions.getResolver());
+            }
+            if (clientOptions.getTlsOptions() != null) {
+                TlsContext tlsContext = TlsContext.of(clientOptions.getTlsOptions());
+                options.sslContext(tlsContext.getSslContext());
+                options.afterChannelInit(tlsContext::register);
+            }
+        });
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                                            Timeouts timeouts, long deadline) {
+
+        return httpClient
+                .request(io.netty.handler.codec.http.HttpMethod.valueOf(method.name()),
+                        uri.toString(),
+                        httpClientRequest -> {
+                            if (timeouts.hasResponse() || timeouts.hasReadIdle() || deadline != Timeouts.NONE) {
+                                httpClientRequest.context()
+                                        .addHandlerFirst(RequestTimeoutHandler.NAME, new RequestTimeoutHandler(timeouts.getResponse(), timeouts.getReadIdle(), deadline));
+                            }
+                            return requestCallback.apply(new ReactorClientHttpRequest(method, uri, httpClientRequest.failOnServerError(false)));
+                        })
+                .map(ReactorClientHttpResponse::new);
+    }
+
+    @Override
+    public Mono<Integer> warmUp(URI uri, int connections) {
+        return Flux.range(0, connections)
+                .flatMap(i -> connect(HttpMethod.HEAD, uri, ClientHttpRequest::setComplete)
+                        .flatMap(response -> response.getBody().then(Mono.just(1)))
+                        .onErrorResume(throwable -> Mono.just(0)), connections)
+                .reduce(0, Integer::sum);
+    }
+
+    @Override
+    public void close() {
+        poolResources.dispose();
+        if (loopResources != null) {
+            loopResources.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.ReactiveClientTimeoutException;
+import com.reactiveclient.metadata.Timeouts;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the response, read idle and deadline timeouts of a single exchange on the
+ * event loop of its connection. It is added when the request starts and removed when
+ * the connection is released.
+ */
+class RequestTimeoutHandler extends ChannelInboundHandlerAdapter {
+    static final String NAME = "reactiveClientRequestTimeout";
+
+    private final long responseTimeout;
+    private final long readIdleTimeout;
+    private final long deadline;
+
+    private ScheduledFuture<?> responseTimeoutTask;
+    private ScheduledFuture<?> readIdleTimeoutTask;
+    private ScheduledFuture<?> deadlineTask;
+    private long lastReadTime;
+    private boolean firstByteReceived;
+    private boolean timedOut;
+
+    RequestTimeoutHandler(long responseTimeout, long readIdleTimeout, long deadline) {
+        this.responseTimeout = responseTimeout;
+        this.readIdleTimeout = TimeUnit.MILLISECONDS.toNanos(readIdleTimeout);
+        this.deadline = deadline;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        if (responseTimeout > 0) {
+            responseTimeoutTask = ctx.executor().schedule(() -> timeout(ctx, "No response received within " + responseTimeout + " ms"),
+                    responseTimeout, TimeUnit.MILLISECONDS);
+        }
+        if (deadline != Timeouts.NONE) {
+            deadlineTask = ctx.executor().schedule(() -> timeout(ctx, "Request deadline exceeded"),
+                    Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (readIdleTimeout > 0) {
+            lastReadTime = System.nanoTime();
+            if (readIdleTimeoutTask == null) {
+                readIdleTimeoutTask = ctx.executor().schedule(() -> checkReadIdle(ctx), readIdleTimeout, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (!firstByteReceived) {
+            firstByteReceived = true;
+            cancel(responseTimeoutTask);
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        cancelAll();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        cancelAll();
+    }
+
+    private void checkReadIdle(ChannelHandlerContext ctx) {
+        long nextDelay = readIdleTimeout - (System.nanoTime() - lastReadTime);
+        if (nextDelay <= 0) {
+            timeout(ctx, "No data received for " + TimeUnit.NANOSECONDS.toMillis(readIdleTimeout) + " ms");
+        } else {
+            readIdleTimeoutTask = ctx.executor().schedule(() -> checkReadIdle(ctx), nextDelay, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void timeout(ChannelHandlerContext ctx, String message) {
+        if (!timedOut) {
+            timedOut = true;
+            cancelAll();
+            ctx.fireExceptionCaught(new ReactiveClientTimeoutException(message));
+            ctx.close();
+        }
+    }
+
+    private void cancelAll() {
+        cancel(responseTimeoutTask);
+        cancel(readIdleTimeoutTask);
+        cancel(deadlineTask);
+    }
+
+    private void cancel(ScheduledFuture<?> task) {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.reactiveclient.client;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ClientResponse} able to decode generic element types, such as {@code ServerSentEvent<Hello>}.
+ */
+public interface TypedClientResponse extends ClientResponse {
+
+    <T> Mono<T> bodyToMono(ResolvableType elementType);
+
+    <T> Flux<T> bodyToFlux(ResolvableType elementType);
+}
@@ -1,10 +1,18 @@
 package com.reactiveclient.client;
 
-import com.reactiveclient.ErrorDecoder;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.metadata.MethodMetadata;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-import java.util.List;
+import java.net.URI;
 
 public interface WebClientFactory {
-    WebClient create(List<ErrorDecoder> errorDecoders);
-}
\ No newline at end of file
+    WebClient create(MethodMetadata methodMetadata);
+
+    Mono<Integer> warmUp(URI uri, int connections);
+
+    FireAndForgetDispatcher getFireAndForgetDispatcher();
+
+    void close();
+}
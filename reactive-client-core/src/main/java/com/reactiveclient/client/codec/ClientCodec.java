@@ -0,0 +1,32 @@
+package com.reactiveclient.client.codec;
+
+import lombok.Getter;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.codec.Encoder;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.HttpMessageWriter;
+
+/**
+ * Reader and writer of a media type, either may be null, tried before the default ones. They are picked from the
+ * {@code consumes} and {@code produces} media types of the method, sent as Accept and Content-Type.
+ */
+@Getter
+public class ClientCodec {
+    private final HttpMessageReader<?> reader;
+    private final HttpMessageWriter<?> writer;
+
+    private ClientCodec(HttpMessageReader<?> reader, HttpMessageWriter<?> writer) {
+        this.reader = reader;
+        this.writer = writer;
+    }
+
+    public static ClientCodec of(HttpMessageReader<?> reader, HttpMessageWriter<?> writer) {
+        return new ClientCodec(reader, writer);
+    }
+
+    public static ClientCodec of(Decoder<?> decoder, Encoder<?> encoder) {
+        return new ClientCodec(new DecoderHttpMessageReader<>(decoder), new EncoderHttpMessageWriter<>(encoder));
+    }
+}
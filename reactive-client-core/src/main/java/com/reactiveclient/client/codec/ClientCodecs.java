@@ -0,0 +1,74 @@
+package com.reactiveclient.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.util.MultiValueMap;
+
+import java.nio.ByteBuffer;
+
+public final class ClientCodecs {
+    public static final MimeType CBOR = MimeType.valueOf("application/cbor");
+    public static final MimeType SMILE = MimeType.valueOf("application/x-jackson-smile");
+    public static final MimeType PROTOBUF = MimeType.valueOf("application/x-protobuf");
+
+    private ClientCodecs() {
+    }
+
+    /**
+     * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor}.
+     */
+    public static ClientCodec cbor() {
+        return cbor(Jackson2ObjectMapperBuilder.cbor().build());
+    }
+
+    public static ClientCodec cbor(ObjectMapper objectMapper) {
+        return ClientCodec.of(new JacksonBinaryDecoder(objectMapper, CBOR), new JacksonBinaryEncoder(objectMapper, CBOR));
+    }
+
+    /**
+     * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile}.
+     */
+    public static ClientCodec smile() {
+        return smile(Jackson2ObjectMapperBuilder.smile().build());
+    }
+
+    public static ClientCodec smile(ObjectMapper objectMapper) {
+        return ClientCodec.of(new JacksonBinaryDecoder(objectMapper, SMILE), new JacksonBinaryEncoder(objectMapper, SMILE));
+    }
+
+    /**
+     * Requires {@code com.google.protobuf:protobuf-java}. Streams are sent and read as length delimited messages.
+     */
+    public static ClientCodec protobuf() {
+        return ClientCodec.of(new ProtobufDecoder(), new ProtobufEncoder());
+    }
+
+    /**
+     * JSON reader and writer of a single method, for its response and body element types.
+     * Types handled by a dedicated default codec (strings, bytes, resources, forms) are left to it.
+     */
+    public static ClientCodec precompiledJson(JsonCodec jsonCodec, ResolvableType responseType, ResolvableType bodyType) {
+        return ClientCodec.of(isJson(responseType) ? new DecoderHttpMessageReader<>(new PrecompiledJsonDecoder(jsonCodec, responseType)) : null,
+                isJson(bodyType) ? new EncoderHttpMessageWriter<>(new PrecompiledJsonEncoder(jsonCodec, bodyType)) : null);
+    }
+
+    private static boolean isJson(ResolvableType type) {
+        if (type == null || type.resolve() == null) {
+            return false;
+        }
+        Class<?> rawClass = type.resolve();
+        return !(CharSequence.class.isAssignableFrom(rawClass)
+                || byte[].class == rawClass
+                || ByteBuffer.class.isAssignableFrom(rawClass)
+                || DataBuffer.class.isAssignableFrom(rawClass)
+                || Resource.class.isAssignableFrom(rawClass)
+                || MultiValueMap.class.isAssignableFrom(rawClass)
+                || Void.class == rawClass);
+    }
+}
@@ -0,0 +1,41 @@
+package com.reactiveclient.client.codec;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Copies of data buffers releasing the pooled ones once read.
+ */
+public final class DataBuffers {
+
+    private DataBuffers() {
+    }
+
+    public static byte[] toByteArray(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    /**
+     * Reads a whole body, empty when the body is.
+     */
+    public static Mono<byte[]> join(Publisher<DataBuffer> input) {
+        return Flux.from(input)
+                .collect(ByteArrayOutputStream::new, (output, buffer) -> {
+                    byte[] bytes = toByteArray(buffer);
+                    output.write(bytes, 0, bytes.length);
+                })
+                .filter(output -> output.size() > 0)
+                .map(ByteArrayOutputStream::toByteArray);
+    }
+}
@@ -0,0 +1,75 @@
+package com.reactiveclient.client.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the binary formats of Jackson (CBOR, Smile). A stream is read from a root array or
+ * from root values following each other, once the whole body is received.
+ */
+public class JacksonBinaryDecoder implements Decoder<Object> {
+    private final ObjectMapper objectMapper;
+    private final MimeType mimeType;
+
+    public JacksonBinaryDecoder(ObjectMapper objectMapper, MimeType mimeType) {
+        this.objectMapper = objectMapper;
+        this.mimeType = mimeType;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return mimeType != null && this.mimeType.isCompatibleWith(mimeType)
+                && objectMapper.canDeserialize(javaType(elementType));
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        ObjectReader reader = objectMapper.readerFor(javaType(elementType));
+        return DataBuffers.join(inputStream)
+                .flatMapMany(bytes -> {
+                    try {
+                        MappingIterator<Object> values = reader.readValues(bytes);
+                        return Flux.fromIterable(() -> values);
+                    } catch (IOException e) {
+                        return Flux.error(new CodecException("Invalid " + this.mimeType + " content", e));
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Object> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        ObjectReader reader = objectMapper.readerFor(javaType(elementType));
+        return DataBuffers.join(inputStream)
+                .flatMap(bytes -> {
+                    try {
+                        return Mono.justOrEmpty(reader.readValue(bytes));
+                    } catch (IOException e) {
+                        return Mono.error(new CodecException("Invalid " + this.mimeType + " content", e));
+                    }
+                });
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return Collections.singletonList(mimeType);
+    }
+
+    private JavaType javaType(ResolvableType type) {
+        return objectMapper.getTypeFactory().constructType(type.getType());
+    }
+}
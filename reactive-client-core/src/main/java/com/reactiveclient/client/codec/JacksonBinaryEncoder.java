@@ -0,0 +1,67 @@
+package com.reactiveclient.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the binary formats of Jackson (CBOR, Smile), a stream as root values following each other.
+ */
+public class JacksonBinaryEncoder implements Encoder<Object> {
+    private final ObjectMapper objectMapper;
+    private final MimeType mimeType;
+
+    public JacksonBinaryEncoder(ObjectMapper objectMapper, MimeType mimeType) {
+        this.objectMapper = objectMapper;
+        this.mimeType = mimeType;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return mimeType != null && this.mimeType.isCompatibleWith(mimeType)
+                && objectMapper.canSerialize(elementType.resolve(Object.class));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        ObjectWriter writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructType(elementType.getType()));
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> write(writer, value, bufferFactory))
+                    .flux();
+        }
+        return Flux.from(inputStream)
+                .map(value -> write(writer, value, bufferFactory));
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return Collections.singletonList(mimeType);
+    }
+
+    private DataBuffer write(ObjectWriter writer, Object value, DataBufferFactory bufferFactory) {
+        DataBuffer buffer = bufferFactory.allocateBuffer();
+        try {
+            writer.writeValue(buffer.asOutputStream(), value);
+            return buffer;
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new CodecException("Could not write " + mimeType + " content", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.reactiveclient.client.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * {@link JsonCodec} backed by an {@link ObjectReader} and an {@link ObjectWriter} created once per type.
+ */
+public class JacksonJsonCodec implements JsonCodec {
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private final ObjectMapper objectMapper;
+
+    public JacksonJsonCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public static JacksonJsonCodec defaults() {
+        return new JacksonJsonCodec(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    /**
+     * Generates bytecode accessors instead of reflection, requires {@code com.fasterxml.jackson.module:jackson-module-afterburner}.
+     */
+    public static JacksonJsonCodec withAfterburner() {
+        ClassLoader classLoader = JacksonJsonCodec.class.getClassLoader();
+        if (!ClassUtils.isPresent(AFTERBURNER_MODULE, classLoader)) {
+            throw new IllegalStateException(AFTERBURNER_MODULE + " is not on the classpath");
+        }
+        Module afterburner = (Module) BeanUtils.instantiateClass(ClassUtils.resolveClassName(AFTERBURNER_MODULE, classLoader));
+        return new JacksonJsonCodec(Jackson2ObjectMapperBuilder.json().modulesToInstall(afterburner).build());
+    }
+
+    @Override
+    public Reader reader(ResolvableType type) {
+        ObjectReader reader = objectMapper.readerFor(javaType(type));
+        return new Reader() {
+            @Override
+            public Object read(byte[] json) throws IOException {
+                return reader.readValue(json);
+            }
+
+            @Override
+            public Iterator<Object> readValues(byte[] json) throws IOException {
+                return reader.readValues(json);
+            }
+        };
+    }
+
+    @Override
+    public Writer writer(ResolvableType type) {
+        ObjectWriter writer = objectMapper.writerFor(javaType(type));
+        return (value, output) -> writer.writeValue(output, value);
+    }
+
+    private JavaType javaType(ResolvableType type) {
+        return objectMapper.getTypeFactory().constructType(type.getType());
+    }
+}
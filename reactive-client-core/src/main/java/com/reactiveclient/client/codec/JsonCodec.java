@@ -0,0 +1,33 @@
+package com.reactiveclient.client.codec;
+
+import org.springframework.core.ResolvableType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * JSON engine used to read the responses and write the bodies of the methods of a client.
+ * Readers and writers are resolved once per method when the client is built, and then reused for every call.
+ */
+public interface JsonCodec {
+
+    Reader reader(ResolvableType type);
+
+    Writer writer(ResolvableType type);
+
+    interface Reader {
+
+        Object read(byte[] json) throws IOException;
+
+        /**
+         * Reads the elements of a root array, or root values following each other.
+         */
+        Iterator<Object> readValues(byte[] json) throws IOException;
+    }
+
+    interface Writer {
+
+        void write(Object value, OutputStream output) throws IOException;
+    }
+}
@@ -0,0 +1,69 @@
+package com.reactiveclient.client.codec;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the {@code application/json} responses of one method with a reader resolved when the client is built.
+ * Other types are left to the default decoders, and so are streaming media types.
+ * The body is read whole before decoding, so it is meant for single value responses; streams are better left to the
+ * default decoder.
+ */
+public class PrecompiledJsonDecoder implements Decoder<Object> {
+    private final ResolvableType type;
+    private final JsonCodec.Reader reader;
+
+    public PrecompiledJsonDecoder(JsonCodec jsonCodec, ResolvableType type) {
+        this.type = type;
+        this.reader = jsonCodec.reader(type);
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return mimeType != null && MimeTypeUtils.APPLICATION_JSON.includes(mimeType)
+                && type.isAssignableFrom(elementType) && elementType.isAssignableFrom(type);
+    }
+
+    @Override
+    public Flux<Object> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return DataBuffers.join(inputStream)
+                .flatMapMany(bytes -> {
+                    try {
+                        Iterator<Object> values = reader.readValues(bytes);
+                        return Flux.fromIterable(() -> values);
+                    } catch (IOException e) {
+                        return Flux.error(new CodecException("Invalid JSON content", e));
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Object> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        return DataBuffers.join(inputStream)
+                .flatMap(bytes -> {
+                    try {
+                        return Mono.justOrEmpty(reader.read(bytes));
+                    } catch (IOException e) {
+                        return Mono.error(new CodecException("Invalid JSON content", e));
+                    }
+                });
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return Collections.singletonList(MimeTypeUtils.APPLICATION_JSON);
+    }
+}
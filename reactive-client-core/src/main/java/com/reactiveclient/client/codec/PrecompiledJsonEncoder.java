@@ -0,0 +1,78 @@
+package com.reactiveclient.client.codec;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the {@code application/json} body of one method with a writer resolved when the client is built,
+ * a stream as a JSON array like the default encoder.
+ */
+public class PrecompiledJsonEncoder implements Encoder<Object> {
+    private static final byte[] START_ARRAY = "[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SEPARATOR = ",".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END_ARRAY = "]".getBytes(StandardCharsets.UTF_8);
+
+    private final Class<?> rawClass;
+    private final JsonCodec.Writer writer;
+
+    public PrecompiledJsonEncoder(JsonCodec jsonCodec, ResolvableType type) {
+        this.rawClass = type.resolve();
+        this.writer = jsonCodec.writer(type);
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return (mimeType == null || MimeTypeUtils.APPLICATION_JSON.includes(mimeType)) && elementType.resolve() == rawClass;
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(value -> write(value, bufferFactory, null))
+                    .flux();
+        }
+        return Flux.from(inputStream)
+                .index()
+                .map(indexed -> write(indexed.getT2(), bufferFactory, indexed.getT1() == 0 ? START_ARRAY : SEPARATOR))
+                .switchIfEmpty(Mono.fromSupplier(() -> bufferFactory.wrap(START_ARRAY)))
+                .concatWith(Mono.fromSupplier(() -> bufferFactory.wrap(END_ARRAY)));
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return Collections.singletonList(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    private DataBuffer write(Object value, DataBufferFactory bufferFactory, byte[] prefix) {
+        DataBuffer buffer = bufferFactory.allocateBuffer();
+        try {
+            OutputStream output = buffer.asOutputStream();
+            if (prefix != null) {
+                output.write(prefix);
+            }
+            writer.write(value, output);
+            return buffer;
+        } catch (IOException e) {
+            DataBufferUtils.release(buffer);
+            throw new CodecException("Could not write JSON content", e);
+        }
+    }
+}
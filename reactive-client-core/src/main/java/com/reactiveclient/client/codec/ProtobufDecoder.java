@@ -0,0 +1,154 @@
+package com.reactiveclient.client.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodes a single protobuf message, or a stream of length delimited messages as they are received.
+ */
+public class ProtobufDecoder implements Decoder<Message> {
+    private static final Map<Class<?>, Method> BUILDER_METHODS = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return mimeType != null && ClientCodecs.PROTOBUF.isCompatibleWith(mimeType)
+                && Message.class.isAssignableFrom(elementType.resolve(Object.class));
+    }
+
+    @Override
+    public Flux<Message> decode(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        Class<?> messageClass = elementType.resolve();
+        return Flux.defer(() -> {
+            MessageFramer framer = new MessageFramer(messageClass);
+            return Flux.from(inputStream)
+                    .concatMapIterable(framer::frames)
+                    .concatWith(Mono.defer(framer::complete));
+        });
+    }
+
+    @Override
+    public Mono<Message> decodeToMono(Publisher<DataBuffer> inputStream, ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+        Class<?> messageClass = elementType.resolve();
+        return DataBuffers.join(inputStream)
+                .map(bytes -> {
+                    try {
+                        return newBuilder(messageClass).mergeFrom(bytes).build();
+                    } catch (InvalidProtocolBufferException e) {
+                        throw new CodecException("Invalid protobuf message", e);
+                    }
+                });
+    }
+
+    @Override
+    public List<MimeType> getDecodableMimeTypes() {
+        return Collections.singletonList(ClientCodecs.PROTOBUF);
+    }
+
+    static Message.Builder newBuilder(Class<?> messageClass) {
+        try {
+            return (Message.Builder) BUILDER_METHODS.computeIfAbsent(messageClass, ProtobufDecoder::builderMethod).invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new CodecException("Could not create a builder of " + messageClass.getName(), e);
+        }
+    }
+
+    private static Method builderMethod(Class<?> messageClass) {
+        try {
+            return messageClass.getMethod("newBuilder");
+        } catch (NoSuchMethodException e) {
+            throw new CodecException(messageClass.getName() + " is not a generated protobuf message", e);
+        }
+    }
+
+    /**
+     * Splits the received bytes into length delimited messages, keeping an incomplete message until the next buffer.
+     * The bytes are appended to a growing array, and are only parsed again once the missing length of the pending
+     * message has been received, so a message split across many buffers is copied a bounded number of times.
+     */
+    private static class MessageFramer {
+        private static final int MAX_VARINT_SIZE = 5;
+
+        private final Class<?> messageClass;
+        private byte[] pending = new byte[0];
+        private int count;
+        private int needed;
+
+        MessageFramer(Class<?> messageClass) {
+            this.messageClass = messageClass;
+        }
+
+        List<Message> frames(DataBuffer buffer) {
+            append(buffer);
+            if (count < needed) {
+                return Collections.emptyList();
+            }
+
+            List<Message> messages = new ArrayList<>();
+            int offset = 0;
+            needed = 0;
+            try {
+                while (offset < count) {
+                    CodedInputStream input = CodedInputStream.newInstance(pending, offset, count - offset);
+                    int length;
+                    try {
+                        length = input.readRawVarint32();
+                    } catch (InvalidProtocolBufferException e) {
+                        if (count - offset < MAX_VARINT_SIZE) {
+                            needed = count - offset + 1;
+                            break;
+                        }
+                        throw e;
+                    }
+                    int start = offset + input.getTotalBytesRead();
+                    if (count - start < length) {
+                        needed = start - offset + length;
+                        break;
+                    }
+                    messages.add(newBuilder(messageClass).mergeFrom(pending, start, length).build());
+                    offset = start + length;
+                }
+            } catch (IOException e) {
+                throw new CodecException("Invalid protobuf message", e);
+            }
+            count -= offset;
+            System.arraycopy(pending, offset, pending, 0, count);
+            return messages;
+        }
+
+        Mono<Message> complete() {
+            return count == 0 ? Mono.empty() : Mono.error(new CodecException("Incomplete protobuf message at the end of the stream"));
+        }
+
+        private void append(DataBuffer buffer) {
+            try {
+                int received = buffer.readableByteCount();
+                if (count + received > pending.length) {
+                    pending = Arrays.copyOf(pending, Math.max(count + received, Math.max(needed, pending.length * 2)));
+                }
+                buffer.read(pending, count, received);
+                count += received;
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.reactiveclient.client.codec;
+
+import com.google.protobuf.Message;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a single protobuf message, or a stream as length delimited messages.
+ */
+public class ProtobufEncoder implements Encoder<Message> {
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return mimeType != null && ClientCodecs.PROTOBUF.isCompatibleWith(mimeType)
+                && Message.class.isAssignableFrom(elementType.resolve(Object.class));
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<? extends Message> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono) {
+            return Mono.from(inputStream)
+                    .map(message -> bufferFactory.wrap(message.toByteArray()))
+                    .flux();
+        }
+        return Flux.from(inputStream)
+                .map(message -> {
+                    DataBuffer buffer = bufferFactory.allocateBuffer();
+                    try {
+                        message.writeDelimitedTo(buffer.asOutputStream());
+                        return buffer;
+                    } catch (IOException e) {
+                        DataBufferUtils.release(buffer);
+                        throw new CodecException("Could not write protobuf message", e);
+                    }
+                });
+    }
+
+    @Override
+    public List<MimeType> getEncodableMimeTypes() {
+        return Collections.singletonList(ClientCodecs.PROTOBUF);
+    }
+}
@@ -0,0 +1,261 @@
+package com.reactiveclient.client.dispatch;
+
+import com.reactiveclient.RequestRejectedException;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the calls of {@code void} methods in the background. At most {@code concurrency} calls run at once, a call
+ * starts right away while a slot is free and otherwise waits in a queue of {@code queueSize} calls, so the dispatcher
+ * accepts up to {@code concurrency + queueSize} calls, even with a queue size of 0. Once both are full, a call is
+ * dropped or rejected depending on the {@link OverflowPolicy}. Failures are logged and counted, since no caller sees them.
+ */
+public class FireAndForgetDispatcher implements AutoCloseable {
+    public static final int DEFAULT_QUEUE_SIZE = 1024;
+    public static final int DEFAULT_CONCURRENCY = 16;
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 30000L;
+
+    private static final Logger LOGGER = Loggers.getLogger(FireAndForgetDispatcher.class);
+
+    private final int queueSize;
+    private final int concurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final long shutdownTimeout;
+    private final ArrayDeque<Call> queue;
+    private final Object lock = new Object();
+    private final MonoProcessor<Void> terminated;
+    private final LongAdder completed;
+    private final LongAdder failed;
+    private final LongAdder dropped;
+    private final LongAdder rejected;
+    private final AtomicInteger wip;
+    private int inFlight;
+    private boolean shutdown;
+
+    private FireAndForgetDispatcher(Builder builder) {
+        this.queueSize = builder.queueSize;
+        this.concurrency = builder.concurrency;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.shutdownTimeout = builder.shutdownTimeout;
+        this.queue = new ArrayDeque<>();
+        this.terminated = MonoProcessor.create();
+        this.completed = new LongAdder();
+        this.failed = new LongAdder();
+        this.dropped = new LongAdder();
+        this.rejected = new LongAdder();
+        this.wip = new AtomicInteger();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static FireAndForgetDispatcher defaults() {
+        return newBuilder().build();
+    }
+
+    /**
+     * Queues a call, the publisher is only created and subscribed when the call runs.
+     *
+     * @throws RequestRejectedException when the queue is full with the {@link OverflowPolicy#REJECT} policy,
+     *                                  or when the dispatcher is shut down
+     */
+    public void dispatch(String name, Supplier<? extends Publisher<?>> call) {
+        synchronized (lock) {
+            if (shutdown) {
+                rejected.increment();
+                throw new RequestRejectedException("Call " + name + " rejected: the dispatcher is shut down");
+            }
+            if (queue.size() + inFlight >= queueSize + concurrency) {
+                if (overflowPolicy == OverflowPolicy.REJECT) {
+                    rejected.increment();
+                    throw new RequestRejectedException("Call " + name + " rejected: the queue of " + queueSize + " calls is full");
+                }
+                dropped.increment();
+                return;
+            }
+            queue.offer(new Call(name, call));
+        }
+        drain();
+    }
+
+    /**
+     * Stops accepting calls, the returned {@code Mono} completes once the queued and running calls are done.
+     */
+    public Mono<Void> shutdown() {
+        synchronized (lock) {
+            shutdown = true;
+            if (queue.isEmpty() && inFlight == 0) {
+                terminated.onComplete();
+            }
+        }
+        return terminated;
+    }
+
+    /**
+     * Shuts down and waits for the queued calls, at most the shutdown timeout.
+     */
+    @Override
+    public void close() {
+        try {
+            shutdown().block(Duration.ofMillis(shutdownTimeout));
+        } catch (IllegalStateException e) {
+            LOGGER.warn("{} fire and forget calls not completed after {} ms", getQueued() + getInFlight(), shutdownTimeout);
+        }
+    }
+
+    /**
+     * Starts the queued calls while slots are free. Only one thread drains at a time, a call completing synchronously
+     * while its own drain is running only marks more work to do, so the loop picks it up instead of recursing.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (; ; ) {
+            for (; ; ) {
+                Call next;
+                synchronized (lock) {
+                    if (inFlight >= concurrency || queue.isEmpty()) {
+                        break;
+                    }
+                    next = queue.poll();
+                    inFlight++;
+                }
+                run(next);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void run(Call call) {
+        Flux.defer(call.call)
+                .doFinally(signal -> onDone())
+                .subscribe(null,
+                        error -> {
+                            failed.increment();
+                            LOGGER.warn("Fire and forget call " + call.name + " failed", error);
+                        },
+                        completed::increment);
+    }
+
+    private void onDone() {
+        synchronized (lock) {
+            inFlight--;
+            if (shutdown && queue.isEmpty() && inFlight == 0) {
+                terminated.onComplete();
+            }
+        }
+        drain();
+    }
+
+    public int getQueued() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Silently drops the call, counting it.
+         */
+        DROP,
+        /**
+         * Throws a {@link RequestRejectedException} to the caller, counting it.
+         */
+        REJECT
+    }
+
+    private static class Call {
+        private final String name;
+        private final Supplier<? extends Publisher<?>> call;
+
+        Call(String name, Supplier<? extends Publisher<?>> call) {
+            this.name = name;
+            this.call = call;
+        }
+    }
+
+    public static class Builder {
+        private int queueSize;
+        private int concurrency;
+        private OverflowPolicy overflowPolicy;
+        private long shutdownTimeout;
+
+        private Builder() {
+            queueSize = DEFAULT_QUEUE_SIZE;
+            concurrency = DEFAULT_CONCURRENCY;
+            overflowPolicy = OverflowPolicy.DROP;
+            shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+        }
+
+        public Builder queueSize(int queueSize) {
+            if (queueSize < 0) {
+                throw new IllegalArgumentException("queueSize must be positive");
+            }
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("concurrency must be strictly positive");
+            }
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds {@link #close()} waits for the queued calls.
+         */
+        public Builder shutdownTimeout(long shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+            return this;
+        }
+
+        public FireAndForgetDispatcher build() {
+            return new FireAndForgetDispatcher(this);
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.reactiveclient.client.dns;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.AddressedEnvelope;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.handler.codec.dns.DefaultDnsQuestion;
+import io.netty.handler.codec.dns.DnsRawRecord;
+import io.netty.handler.codec.dns.DnsRecord;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponse;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.NameResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolver;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProvider;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.resolver.dns.NoopDnsCache;
+import io.netty.resolver.dns.SequentialDnsServerAddressStreamProvider;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non blocking resolver backed by Netty's DNS client, with a cache shared by all event loops.
+ * Resolutions completed synchronously are counted as cache hits.
+ */
+public class CachingDnsResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    private static final DnsRecord[] NO_ADDITIONALS = new DnsRecord[0];
+
+    private final RefreshingDnsCache cache;
+    private final DnsServerAddressStreamProvider nameServerProvider;
+    private final long queryTimeout;
+    private final ResolvedAddressTypes resolvedAddressTypes;
+    private final int minTtl;
+    private final int maxTtl;
+    private final double refreshRatio;
+    private final Map<EventLoop, DnsNameResolver> refreshResolvers;
+    private final DnsAddressResolverGroup delegate;
+    private final DnsMetrics metrics;
+    private final Set<String> recentHosts;
+    private final Map<String, ScheduledFuture<?>> refreshTasks;
+
+    public CachingDnsResolverGroup(DnsOptions dnsOptions) {
+        this.cache = new RefreshingDnsCache(dnsOptions.getMinTtl(), dnsOptions.getMaxTtl(), dnsOptions.getNegativeTtl());
+        this.nameServerProvider = nameServerProvider(dnsOptions.getNameServers());
+        this.queryTimeout = dnsOptions.getQueryTimeout();
+        this.resolvedAddressTypes = dnsOptions.getResolvedAddressTypes();
+        this.minTtl = dnsOptions.getMinTtl();
+        this.maxTtl = dnsOptions.getMaxTtl();
+        this.refreshRatio = dnsOptions.getRefreshRatio();
+        this.refreshResolvers = new ConcurrentHashMap<>();
+        this.delegate = new CacheAwareDnsAddressResolverGroup(nameServerProvider, cache, queryTimeout, resolvedAddressTypes);
+        this.metrics = new DnsMetrics();
+        this.recentHosts = ConcurrentHashMap.newKeySet();
+        this.refreshTasks = new ConcurrentHashMap<>();
+    }
+
+    public DnsMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) throws Exception {
+        return new MeteredAddressResolver(delegate.getResolver(executor));
+    }
+
+    @Override
+    public void close() {
+        refreshTasks.values().forEach(task -> task.cancel(false));
+        refreshTasks.clear();
+        super.close();
+        delegate.close();
+        refreshResolvers.values().forEach(DnsNameResolver::close);
+    }
+
+    /**
+     * Schedules the refresh of a host when its addresses are cached, after the refresh ratio of their TTL, so that
+     * the entry is renewed before it expires. The refresh runs on the event loop which resolved the host.
+     */
+    private void scheduleRefresh(String host, long ttl, EventLoop eventLoop) {
+        long effectiveTtl = Math.max(minTtl, Math.min(maxTtl, ttl));
+        if (refreshRatio <= 0 || effectiveTtl == 0 || eventLoop.isShuttingDown()) {
+            return;
+        }
+        long delay = (long) (TimeUnit.SECONDS.toMillis(effectiveTtl) * refreshRatio);
+        refreshTasks.computeIfAbsent(host, key -> eventLoop.schedule(() -> {
+            refreshTasks.remove(host);
+            if (recentHosts.remove(host)) {
+                refresh(host, eventLoop);
+            }
+        }, delay, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Queries a host again for every record type the resolver asks for, bypassing the cache. The cached addresses
+     * are only replaced when every query was answered and some addresses came back, a failed refresh keeps them
+     * until they expire. A host not used since its last refresh is left to expire.
+     */
+    void refresh(String host, EventLoop eventLoop) {
+        DnsNameResolver resolver = refreshResolvers.computeIfAbsent(eventLoop, this::newRefreshResolver);
+        List<DnsRecordType> recordTypes = recordTypes(resolvedAddressTypes);
+        RefreshAnswers answers = new RefreshAnswers(recordTypes.size());
+        for (DnsRecordType recordType : recordTypes) {
+            resolver.query(new DefaultDnsQuestion(host, recordType))
+                    .addListener((Future<AddressedEnvelope<DnsResponse, InetSocketAddress>> result) -> {
+                        if (result.isSuccess()) {
+                            AddressedEnvelope<DnsResponse, InetSocketAddress> envelope = result.getNow();
+                            try {
+                                answers.add(host, envelope.content(), recordType);
+                            } finally {
+                                envelope.release();
+                            }
+                        } else {
+                            answers.fail();
+                        }
+                        if (answers.isComplete()) {
+                            metrics.recordRefresh(answers.replace(host, eventLoop));
+                        }
+                    });
+        }
+    }
+
+    private DnsNameResolver newRefreshResolver(EventLoop eventLoop) {
+        return new DnsNameResolverBuilder(eventLoop)
+                .channelType(NioDatagramChannel.class)
+                .nameServerProvider(nameServerProvider)
+                .resolveCache(NoopDnsCache.INSTANCE)
+                .queryTimeoutMillis(queryTimeout)
+                .resolvedAddressTypes(resolvedAddressTypes)
+                .build();
+    }
+
+    private static List<DnsRecordType> recordTypes(ResolvedAddressTypes resolvedAddressTypes) {
+        switch (resolvedAddressTypes) {
+            case IPV4_ONLY:
+                return Collections.singletonList(DnsRecordType.A);
+            case IPV6_ONLY:
+                return Collections.singletonList(DnsRecordType.AAAA);
+            default:
+                return Arrays.asList(DnsRecordType.A, DnsRecordType.AAAA);
+        }
+    }
+
+    private static DnsServerAddressStreamProvider nameServerProvider(List<InetSocketAddress> nameServers) {
+        return nameServers.isEmpty() ?
+                DnsServerAddressStreamProviders.platformDefault() :
+                new SequentialDnsServerAddressStreamProvider(nameServers.toArray(new InetSocketAddress[nameServers.size()]));
+    }
+
+    /**
+     * Answers of the queries of one refresh, the addresses of all record types replace the cached ones together.
+     */
+    private class RefreshAnswers {
+        private final List<InetAddress> addresses = new ArrayList<>();
+        private int pending;
+        private boolean failed;
+        private long ttl = Long.MAX_VALUE;
+
+        RefreshAnswers(int queries) {
+            this.pending = queries;
+        }
+
+        synchronized void add(String host, DnsResponse response, DnsRecordType recordType) {
+            pending--;
+            for (int i = 0; i < response.count(DnsSection.ANSWER); i++) {
+                DnsRecord record = response.recordAt(DnsSection.ANSWER, i);
+                if (record.type() == recordType && record instanceof DnsRawRecord) {
+                    try {
+                        addresses.add(InetAddress.getByAddress(host, ByteBufUtil.getBytes(((DnsRawRecord) record).content())));
+                    } catch (UnknownHostException e) {
+                        failed = true;
+                        return;
+                    }
+                    ttl = Math.min(ttl, record.timeToLive());
+                }
+            }
+        }
+
+        synchronized void fail() {
+            pending--;
+            failed = true;
+        }
+
+        synchronized boolean isComplete() {
+            return pending == 0;
+        }
+
+        synchronized boolean replace(String host, EventLoop eventLoop) {
+            if (failed || addresses.isEmpty()) {
+                return false;
+            }
+            cache.clear(host);
+            for (InetAddress address : addresses) {
+                cache.cache(host, NO_ADDITIONALS, address, ttl, eventLoop);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Schedules the refresh of the hosts cached with a TTL.
+     */
+    private class RefreshingDnsCache extends DefaultDnsCache {
+
+        RefreshingDnsCache(int minTtl, int maxTtl, int negativeTtl) {
+            super(minTtl, maxTtl, negativeTtl);
+        }
+
+        @Override
+        public void cache(String hostname, DnsRecord[] additionals, InetAddress address, long originalTtl, EventLoop loop) {
+            super.cache(hostname, additionals, address, originalTtl, loop);
+            scheduleRefresh(hostname, originalTtl, loop);
+        }
+    }
+
+    private static class CacheAwareDnsAddressResolverGroup extends DnsAddressResolverGroup {
+        private final DefaultDnsCache cache;
+        private final long queryTimeout;
+        private final ResolvedAddressTypes resolvedAddressTypes;
+
+        CacheAwareDnsAddressResolverGroup(DnsServerAddressStreamProvider nameServerProvider, DefaultDnsCache cache, long queryTimeout,
+                                          ResolvedAddressTypes resolvedAddressTypes) {
+            super(NioDatagramChannel.class, nameServerProvider);
+            this.cache = cache;
+            this.queryTimeout = queryTimeout;
+            this.resolvedAddressTypes = resolvedAddressTypes;
+        }
+
+        @Override
+        protected NameResolver<InetAddress> newNameResolver(EventLoop eventLoop,
+                                                            ChannelFactory<? extends DatagramChannel> channelFactory,
+                                                            DnsServerAddressStreamProvider nameServerProvider) throws Exception {
+            return new DnsNameResolverBuilder(eventLoop)
+                    .channelFactory(channelFactory)
+                    .nameServerProvider(nameServerProvider)
+                    .resolveCache(cache)
+                    .queryTimeoutMillis(queryTimeout)
+                    .resolvedAddressTypes(resolvedAddressTypes)
+                    .build();
+        }
+    }
+
+    private class MeteredAddressResolver implements AddressResolver<InetSocketAddress> {
+        private final AddressResolver<InetSocketAddress> resolver;
+
+        MeteredAddressResolver(AddressResolver<InetSocketAddress> resolver) {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public boolean isSupported(SocketAddress address) {
+            return resolver.isSupported(address);
+        }
+
+        @Override
+        public boolean isResolved(SocketAddress address) {
+            return resolver.isResolved(address);
+        }
+
+        @Override
+        public Future<InetSocketAddress> resolve(SocketAddress address) {
+            long start = System.nanoTime();
+            return meter(address, start, resolver.resolve(address));
+        }
+
+        @Override
+        public Future<InetSocketAddress> resolve(SocketAddress address, Promise<InetSocketAddress> promise) {
+            long start = System.nanoTime();
+            return meter(address, start, resolver.resolve(address, promise));
+        }
+
+        @Override
+        public Future<List<InetSocketAddress>> resolveAll(SocketAddress address) {
+            long start = System.nanoTime();
+            return meter(address, start, resolver.resolveAll(address));
+        }
+
+        @Override
+        public Future<List<InetSocketAddress>> resolveAll(SocketAddress address, Promise<List<InetSocketAddress>> promise) {
+            long start = System.nanoTime();
+            return meter(address, start, resolver.resolveAll(address, promise));
+        }
+
+        @Override
+        public void close() {
+            resolver.close();
+        }
+
+        private <T> Future<T> meter(SocketAddress address, long start, Future<T> future) {
+            if (!(address instanceof InetSocketAddress) || !((InetSocketAddress) address).isUnresolved()) {
+                return future;
+            }
+            recentHosts.add(((InetSocketAddress) address).getHostString());
+            if (future.isDone()) {
+                metrics.recordHit();
+            } else {
+                future.addListener(result -> metrics.recordResolution(System.nanoTime() - start, result.isSuccess()));
+            }
+            return future;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reactiveclient.client.dns;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DnsMetrics {
+    private final LongAdder resolutions = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder resolutionTime = new LongAdder();
+
+    void recordHit() {
+        resolutions.increment();
+        cacheHits.increment();
+    }
+
+    void recordResolution(long nanos, boolean success) {
+        resolutions.increment();
+        resolutionTime.add(nanos);
+        if (!success) {
+            failures.increment();
+        }
+    }
+
+    void recordRefresh(boolean success) {
+        if (success) {
+            refreshes.increment();
+        } else {
+            refreshFailures.increment();
+        }
+    }
+
+    public long getResolutions() {
+        return resolutions.sum();
+    }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getRefreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Refreshes which got no address, the cached addresses were kept.
+     */
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Mean time in milliseconds of the resolutions not served by the cache.
+     */
+    public double getMeanResolutionTime() {
+        long misses = resolutions.sum() - cacheHits.sum();
+        return misses == 0 ? 0 : (double) resolutionTime.sum() / misses / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,144 @@
+package com.reactiveclient.client.dns;
+
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.util.NetUtil;
+import lombok.Getter;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+public class DnsOptions {
+    public static final int DEFAULT_MIN_TTL = 0;
+    public static final int DEFAULT_MAX_TTL = 300;
+    public static final int DEFAULT_NEGATIVE_TTL = 10;
+    public static final long DEFAULT_QUERY_TIMEOUT = 5000L;
+
+    private int minTtl;
+    private int maxTtl;
+    private int negativeTtl;
+    private long queryTimeout;
+    private double refreshRatio;
+    private ResolvedAddressTypes resolvedAddressTypes;
+    private List<InetSocketAddress> nameServers;
+
+    private DnsOptions(Builder builder) {
+        minTtl = builder.minTtl;
+        maxTtl = builder.maxTtl;
+        negativeTtl = builder.negativeTtl;
+        queryTimeout = builder.queryTimeout;
+        refreshRatio = builder.refreshRatio;
+        resolvedAddressTypes = builder.resolvedAddressTypes;
+        nameServers = Collections.unmodifiableList(new ArrayList<>(builder.nameServers));
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static DnsOptions defaults() {
+        return newBuilder().build();
+    }
+
+    public static class Builder {
+        private int minTtl;
+        private int maxTtl;
+        private int negativeTtl;
+        private long queryTimeout;
+        private double refreshRatio;
+        private ResolvedAddressTypes resolvedAddressTypes;
+        private List<InetSocketAddress> nameServers;
+
+        private Builder() {
+            minTtl = DEFAULT_MIN_TTL;
+            maxTtl = DEFAULT_MAX_TTL;
+            negativeTtl = DEFAULT_NEGATIVE_TTL;
+            queryTimeout = DEFAULT_QUERY_TIMEOUT;
+            resolvedAddressTypes = defaultResolvedAddressTypes();
+            nameServers = new ArrayList<>();
+        }
+
+        /**
+         * Minimum time in seconds an answer is cached, whatever its TTL.
+         */
+        public Builder minTtl(int minTtl) {
+            this.minTtl = minTtl;
+            return this;
+        }
+
+        /**
+         * Maximum time in seconds an answer is cached, whatever its TTL.
+         */
+        public Builder maxTtl(int maxTtl) {
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * Time in seconds a failed resolution is cached.
+         */
+        public Builder negativeTtl(int negativeTtl) {
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        public Builder queryTimeout(long queryTimeout) {
+            this.queryTimeout = queryTimeout;
+            return this;
+        }
+
+        /**
+         * Fraction of the TTL of a cached host, bounded by the min and max TTLs, after which the host is resolved
+         * again in the background if it was used since it was cached, so that its entry is renewed before it expires.
+         * 0 disables the refresh.
+         */
+        public Builder refreshRatio(double refreshRatio) {
+            this.refreshRatio = refreshRatio;
+            return this;
+        }
+
+        /**
+         * Address families queried, and refreshed, for a host. Follows the JVM network preferences by default.
+         */
+        public Builder resolvedAddressTypes(ResolvedAddressTypes resolvedAddressTypes) {
+            this.resolvedAddressTypes = resolvedAddressTypes;
+            return this;
+        }
+
+        /**
+         * Name servers to query instead of the ones of the system.
+         */
+        public Builder nameServer(InetSocketAddress nameServer) {
+            this.nameServers.add(nameServer);
+            return this;
+        }
+
+        public DnsOptions build() {
+            if (minTtl < 0 || maxTtl < minTtl) {
+                throw new IllegalArgumentException("TTLs must satisfy 0 <= minTtl <= maxTtl");
+            }
+            if (negativeTtl < 0) {
+                throw new IllegalArgumentException("negativeTtl must be positive");
+            }
+            if (queryTimeout <= 0) {
+                throw new IllegalArgumentException("queryTimeout must be strictly positive");
+            }
+            if (refreshRatio < 0 || refreshRatio >= 1) {
+                throw new IllegalArgumentException("refreshRatio must satisfy 0 <= refreshRatio < 1");
+            }
+            if (resolvedAddressTypes == null) {
+                throw new IllegalArgumentException("resolvedAddressTypes must not be null");
+            }
+            return new DnsOptions(this);
+        }
+
+        private static ResolvedAddressTypes defaultResolvedAddressTypes() {
+            if (NetUtil.isIpV4StackPreferred()) {
+                return ResolvedAddressTypes.IPV4_ONLY;
+            }
+            return NetUtil.isIpV6AddressesPreferred() ? ResolvedAddressTypes.IPV6_PREFERRED : ResolvedAddressTypes.IPV4_PREFERRED;
+        }
+    }
+}
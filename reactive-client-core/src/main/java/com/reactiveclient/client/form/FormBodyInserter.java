@@ -0,0 +1,33 @@
+package com.reactiveclient.client.form;
+
+import com.reactiveclient.metadata.request.FormBody;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes an encoded form body with a single buffer.
+ */
+public class FormBodyInserter implements BodyInserter<FormBody, ClientHttpRequest> {
+    private static final MediaType FORM_CONTENT_TYPE = MediaType.valueOf("application/x-www-form-urlencoded;charset=UTF-8");
+
+    private final FormBody body;
+
+    private FormBodyInserter(FormBody body) {
+        this.body = body;
+    }
+
+    public static FormBodyInserter fromForm(FormBody body) {
+        return new FormBodyInserter(body);
+    }
+
+    @Override
+    public Mono<Void> insert(ClientHttpRequest request, Context context) {
+        request.getHeaders().setContentType(FORM_CONTENT_TYPE);
+        request.getHeaders().setContentLength(body.getContent().length);
+        return request.writeWith(Mono.fromSupplier(() -> request.bufferFactory().wrap(ByteBuffer.wrap(body.getContent()))));
+    }
+}
@@ -0,0 +1,24 @@
+package com.reactiveclient.client.leak;
+
+import lombok.Getter;
+
+/**
+ * A buffer not released, with the method of the client that received it and the site where it was allocated or received.
+ */
+@Getter
+public class BufferLeak {
+    private final String owner;
+    private final int capacity;
+    private final Throwable site;
+
+    BufferLeak(String owner, int capacity, Throwable site) {
+        this.owner = owner;
+        this.capacity = capacity;
+        this.site = site;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferLeak{owner=" + (owner != null ? owner : "unknown") + ", capacity=" + capacity + ", site=" + site.getMessage() + "}";
+    }
+}
@@ -0,0 +1,128 @@
+package com.reactiveclient.client.leak;
+
+import io.netty.buffer.AbstractByteBufAllocator;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diagnostic allocator keeping track of every buffer allocated for, or received by, the client until it is released.
+ * Buffers come from an unpooled allocator so that a buffer object is never recycled, and a buffer not released
+ * keeps a positive reference count. Tracking has a cost, it is meant for tests and troubleshooting.
+ */
+public class BufferLeakDetector extends AbstractByteBufAllocator {
+    private static final int PURGE_INTERVAL = 1024;
+
+    private final ByteBufAllocator delegate;
+    private final Map<ByteBuf, TrackedBuffer> buffers;
+    private final AtomicLong tracked;
+
+    public BufferLeakDetector() {
+        super(true);
+        this.delegate = new UnpooledByteBufAllocator(true);
+        this.buffers = new IdentityHashMap<>();
+        this.tracked = new AtomicLong();
+    }
+
+    @Override
+    protected ByteBuf newHeapBuffer(int initialCapacity, int maxCapacity) {
+        return track(delegate.heapBuffer(initialCapacity, maxCapacity), null, "allocated");
+    }
+
+    @Override
+    protected ByteBuf newDirectBuffer(int initialCapacity, int maxCapacity) {
+        return track(delegate.directBuffer(initialCapacity, maxCapacity), null, "allocated");
+    }
+
+    @Override
+    public boolean isDirectBufferPooled() {
+        return false;
+    }
+
+    /**
+     * Attributes a buffer written or received by the client to its owner, it is tracked from there when it was not
+     * allocated here. Allocated buffers stay unattributed until then.
+     */
+    public void received(DataBuffer buffer, String owner) {
+        if (!(buffer instanceof NettyDataBuffer)) {
+            return;
+        }
+        ByteBuf byteBuf = ((NettyDataBuffer) buffer).getNativeBuffer();
+        synchronized (buffers) {
+            TrackedBuffer trackedBuffer = buffers.get(byteBuf);
+            if (trackedBuffer != null) {
+                if (trackedBuffer.owner == null) {
+                    trackedBuffer.owner = owner;
+                }
+                return;
+            }
+        }
+        track(byteBuf, owner, "received");
+    }
+
+    /**
+     * Buffers tracked and not released yet. Buffers of requests still in flight are reported as well,
+     * the leaks are only meaningful once the requests have completed or have been cancelled.
+     */
+    public List<BufferLeak> leaks() {
+        List<BufferLeak> leaks = new ArrayList<>();
+        synchronized (buffers) {
+            Iterator<TrackedBuffer> iterator = buffers.values().iterator();
+            while (iterator.hasNext()) {
+                TrackedBuffer trackedBuffer = iterator.next();
+                if (trackedBuffer.buffer.refCnt() == 0) {
+                    iterator.remove();
+                } else {
+                    leaks.add(new BufferLeak(trackedBuffer.owner, trackedBuffer.buffer.capacity(), trackedBuffer.site));
+                }
+            }
+        }
+        return leaks;
+    }
+
+    /**
+     * Number of buffers tracked since the detector was created.
+     */
+    public long getTracked() {
+        return tracked.get();
+    }
+
+    public void reset() {
+        synchronized (buffers) {
+            buffers.clear();
+        }
+    }
+
+    private ByteBuf track(ByteBuf buffer, String owner, String event) {
+        TrackedBuffer trackedBuffer = new TrackedBuffer(buffer, owner,
+                new Throwable("Buffer " + event + " on thread " + Thread.currentThread().getName()));
+        synchronized (buffers) {
+            buffers.put(buffer, trackedBuffer);
+            if (tracked.incrementAndGet() % PURGE_INTERVAL == 0) {
+                buffers.values().removeIf(candidate -> candidate.buffer.refCnt() == 0);
+            }
+        }
+        return buffer;
+    }
+
+    private static class TrackedBuffer {
+        private final ByteBuf buffer;
+        private final Throwable site;
+        private volatile String owner;
+
+        TrackedBuffer(ByteBuf buffer, String owner, Throwable site) {
+            this.buffer = buffer;
+            this.owner = owner;
+            this.site = site;
+        }
+    }
+}
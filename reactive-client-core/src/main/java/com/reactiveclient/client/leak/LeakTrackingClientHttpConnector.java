@@ -0,0 +1,143 @@
+package com.reactiveclient.client.leak;
+
+import com.reactiveclient.client.ExtendedClientHttpConnector;
+import com.reactiveclient.metadata.Timeouts;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Attributes the request body and response buffers of one method to it in a {@link BufferLeakDetector}.
+ */
+public class LeakTrackingClientHttpConnector implements ExtendedClientHttpConnector {
+    private final ExtendedClientHttpConnector delegate;
+    private final BufferLeakDetector leakDetector;
+    private final String owner;
+
+    public LeakTrackingClientHttpConnector(ExtendedClientHttpConnector delegate, BufferLeakDetector leakDetector, String owner) {
+        this.delegate = delegate;
+        this.leakDetector = leakDetector;
+        this.owner = owner;
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                                            Timeouts timeouts, long deadline) {
+        return delegate.connect(method, uri, request -> requestCallback.apply(new TrackedClientHttpRequest(request)), timeouts, deadline)
+                .map(TrackedClientHttpResponse::new);
+    }
+
+    @Override
+    public Mono<Integer> warmUp(URI uri, int connections) {
+        return delegate.warmUp(uri, connections);
+    }
+
+    /**
+     * Buffers allocated while encoding the body are only known to the detector, they are attributed when written.
+     */
+    private class TrackedClientHttpRequest implements ClientHttpRequest {
+        private final ClientHttpRequest request;
+
+        TrackedClientHttpRequest(ClientHttpRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return request.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return request.getURI();
+        }
+
+        @Override
+        public MultiValueMap<String, HttpCookie> getCookies() {
+            return request.getCookies();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return request.getHeaders();
+        }
+
+        @Override
+        public DataBufferFactory bufferFactory() {
+            return request.bufferFactory();
+        }
+
+        @Override
+        public void beforeCommit(Supplier<? extends Mono<Void>> action) {
+            request.beforeCommit(action);
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return request.isCommitted();
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return request.writeWith(track(body));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return request.writeAndFlushWith(Flux.from(body).map(this::track));
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            return request.setComplete();
+        }
+
+        private Flux<? extends DataBuffer> track(Publisher<? extends DataBuffer> body) {
+            return Flux.from(body)
+                    .doOnNext(buffer -> leakDetector.received(buffer, owner));
+        }
+    }
+
+    private class TrackedClientHttpResponse implements ClientHttpResponse {
+        private final ClientHttpResponse response;
+
+        TrackedClientHttpResponse(ClientHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public HttpStatus getStatusCode() {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return response.getBody()
+                    .doOnNext(buffer -> leakDetector.received(buffer, owner));
+        }
+
+        @Override
+        public MultiValueMap<String, ResponseCookie> getCookies() {
+            return response.getCookies();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+public abstract class AbstractConcurrencyLimiter implements ConcurrencyLimiter {
+    private final AtomicInteger inFlight;
+    private final AtomicInteger queued;
+    private final LongAdder rejected;
+    private final Queue<Waiter> waiters;
+    private final int maxQueueSize;
+    private final long maxWait;
+
+    protected AbstractConcurrencyLimiter(int maxQueueSize, long maxWait) {
+        this.inFlight = new AtomicInteger();
+        this.queued = new AtomicInteger();
+        this.rejected = new LongAdder();
+        this.waiters = new ConcurrentLinkedQueue<>();
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Adjusts the limit from the round trip time of a request.
+     *
+     * @param rtt      round trip time in nanoseconds
+     * @param inFlight requests in flight when the sample was taken
+     * @param dropped  whether the request was a sign of overload
+     */
+    protected abstract void onSample(long rtt, int inFlight, boolean dropped);
+
+    /**
+     * A permit is taken on each subscription, so that a call built but never sent holds none and a retry takes a new one.
+     */
+    @Override
+    public Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit != null) {
+                return Mono.just(permit);
+            }
+            if (queued.incrementAndGet() > maxQueueSize) {
+                queued.decrementAndGet();
+                return Mono.error(reject());
+            }
+            return Mono.create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                sink.onCancel(waiter::cancel);
+                if (maxWait > 0) {
+                    sink.onDispose(Schedulers.parallel().schedule(waiter::expire, maxWait, TimeUnit.MILLISECONDS));
+                }
+                waiters.offer(waiter);
+                drain();
+            });
+        });
+    }
+
+    @Override
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    @Override
+    public int getQueued() {
+        return queued.get();
+    }
+
+    @Override
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private Permit tryAcquire() {
+        for (; ; ) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new DefaultPermit();
+            }
+        }
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty()) {
+            Permit permit = tryAcquire();
+            if (permit == null) {
+                return;
+            }
+            Waiter waiter = waiters.poll();
+            if (waiter == null) {
+                permit.ignore();
+                return;
+            }
+            if (waiter.grant(permit)) {
+                queued.decrementAndGet();
+            } else {
+                permit.ignore();
+            }
+        }
+    }
+
+    private RequestRejectedException reject() {
+        rejected.increment();
+        return new RequestRejectedException("Concurrency limit of " + getLimit() + " requests reached");
+    }
+
+    private class DefaultPermit implements Permit {
+        private final long start = System.nanoTime();
+        volatile int released;
+
+        @Override
+        public void release() {
+            complete(false, true);
+        }
+
+        @Override
+        public void drop() {
+            complete(true, true);
+        }
+
+        @Override
+        public void ignore() {
+            complete(false, false);
+        }
+
+        private void complete(boolean dropped, boolean sample) {
+            if (RELEASED.compareAndSet(this, 0, 1)) {
+                int current = inFlight.getAndDecrement();
+                if (sample) {
+                    onSample(System.nanoTime() - start, current, dropped);
+                }
+                drain();
+            }
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<DefaultPermit> RELEASED =
+            AtomicIntegerFieldUpdater.newUpdater(DefaultPermit.class, "released");
+
+    /**
+     * Hands a permit to one waiting call. The sink only calls back on cancel when the permit was not delivered,
+     * so a permit granted to a call cancelled at the same time is released there instead of leaking.
+     */
+    private class Waiter {
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state;
+        private volatile Permit permit;
+
+        Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+            this.state = new AtomicInteger(WAITING);
+        }
+
+        boolean grant(Permit permit) {
+            this.permit = permit;
+            if (state.compareAndSet(WAITING, GRANTED)) {
+                sink.success(permit);
+                return true;
+            }
+            return false;
+        }
+
+        void cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                waiters.remove(this);
+                queued.decrementAndGet();
+            } else if (state.compareAndSet(GRANTED, CANCELLED)) {
+                permit.ignore();
+            }
+        }
+
+        void expire() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                waiters.remove(this);
+                queued.decrementAndGet();
+                sink.error(reject());
+            }
+        }
+    }
+}
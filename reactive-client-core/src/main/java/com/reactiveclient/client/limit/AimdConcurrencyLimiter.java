@@ -0,0 +1,45 @@
+package com.reactiveclient.client.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Additive increase while the limit is used, multiplicative decrease on dropped requests.
+ */
+public class AimdConcurrencyLimiter extends AbstractConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger limit;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0, 0);
+    }
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueueSize, long maxWait) {
+        super(maxQueueSize, maxWait);
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must verify 0 < minLimit <= initialLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    @Override
+    public int getLimit() {
+        return limit.get();
+    }
+
+    @Override
+    protected void onSample(long rtt, int inFlight, boolean dropped) {
+        limit.updateAndGet(current -> {
+            if (dropped) {
+                return Math.max(minLimit, (int) (current * BACKOFF_RATIO));
+            } else if (inFlight * 2 >= current) {
+                return Math.min(maxLimit, current + 1);
+            }
+            return current;
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.client.TypedClientResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Response calling back once its body is read, failed or cancelled, so that a streamed body still counts as in flight.
+ */
+class BodyEndClientResponse implements TypedClientResponse {
+    private final TypedClientResponse delegate;
+    private final Consumer<SignalType> onBodyEnd;
+    private final AtomicBoolean ended;
+
+    private BodyEndClientResponse(TypedClientResponse delegate, Consumer<SignalType> onBodyEnd) {
+        this.delegate = delegate;
+        this.onBodyEnd = onBodyEnd;
+        this.ended = new AtomicBoolean();
+    }
+
+    /**
+     * Responses without a typed body are considered read as soon as they are received.
+     */
+    static ClientResponse of(ClientResponse response, Consumer<SignalType> onBodyEnd) {
+        if (response instanceof TypedClientResponse) {
+            return new BodyEndClientResponse((TypedClientResponse) response, onBodyEnd);
+        }
+        onBodyEnd.accept(SignalType.ON_COMPLETE);
+        return response;
+    }
+
+    @Override
+    public HttpStatus statusCode() {
+        return delegate.statusCode();
+    }
+
+    @Override
+    public Headers headers() {
+        return delegate.headers();
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> cookies() {
+        return delegate.cookies();
+    }
+
+    @Override
+    public <T> T body(BodyExtractor<T, ? super ClientHttpResponse> extractor) {
+        return delegate.body(extractor);
+    }
+
+    @Override
+    public <T> Mono<T> bodyToMono(Class<? extends T> elementClass) {
+        return delegate.<T>bodyToMono(elementClass)
+                .doFinally(this::end);
+    }
+
+    @Override
+    public <T> Flux<T> bodyToFlux(Class<? extends T> elementClass) {
+        return delegate.<T>bodyToFlux(elementClass)
+                .doFinally(this::end);
+    }
+
+    @Override
+    public <T> Mono<T> bodyToMono(ResolvableType elementType) {
+        return delegate.<T>bodyToMono(elementType)
+                .doFinally(this::end);
+    }
+
+    @Override
+    public <T> Flux<T> bodyToFlux(ResolvableType elementType) {
+        return delegate.<T>bodyToFlux(elementType)
+                .doFinally(this::end);
+    }
+
+    private void end(SignalType signal) {
+        if (ended.compareAndSet(false, true)) {
+            onBodyEnd.accept(signal);
+        }
+    }
+}
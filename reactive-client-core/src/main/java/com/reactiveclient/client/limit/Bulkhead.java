@@ -0,0 +1,65 @@
+package com.reactiveclient.client.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Maximum number of concurrent calls of the clients sharing it. A call over the limit
+ * is rejected right away instead of waiting, so a slow dependency can't hold the resources of the others.
+ */
+public class Bulkhead {
+    private final String name;
+    private final int maxConcurrentCalls;
+    private final AtomicInteger inFlight;
+    private final LongAdder accepted;
+    private final LongAdder rejected;
+
+    public Bulkhead(String name, int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("maxConcurrentCalls must be strictly positive");
+        }
+        this.name = name;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.inFlight = new AtomicInteger();
+        this.accepted = new LongAdder();
+        this.rejected = new LongAdder();
+    }
+
+    public boolean tryAcquire() {
+        for (; ; ) {
+            int current = inFlight.get();
+            if (current >= maxConcurrentCalls) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
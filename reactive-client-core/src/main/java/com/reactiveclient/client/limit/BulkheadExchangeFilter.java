@@ -0,0 +1,37 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class BulkheadExchangeFilter implements ExchangeFilterFunction {
+    private final Bulkhead bulkhead;
+
+    public BulkheadExchangeFilter(Bulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                return Mono.error(new RequestRejectedException("Bulkhead " + bulkhead.getName() + " is full with " + bulkhead.getMaxConcurrentCalls() + " concurrent calls"));
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            };
+            return next.exchange(request)
+                    .map(response -> BodyEndClientResponse.of(response, signal -> release.run()))
+                    .doOnError(throwable -> release.run())
+                    .doOnCancel(release);
+        });
+    }
+}
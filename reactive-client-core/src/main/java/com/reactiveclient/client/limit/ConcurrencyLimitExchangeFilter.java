@@ -0,0 +1,45 @@
+package com.reactiveclient.client.limit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+public class ConcurrencyLimitExchangeFilter implements ExchangeFilterFunction {
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    public ConcurrencyLimitExchangeFilter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return concurrencyLimiter.acquire()
+                .flatMap(permit -> next.exchange(request)
+                        .map(response -> BodyEndClientResponse.of(response, signal -> complete(permit, response.statusCode(), signal)))
+                        .doOnError(throwable -> permit.drop())
+                        .doOnCancel(permit::ignore));
+    }
+
+    /**
+     * The permit is held until the end of the body, an error while reading a successful body is a sign of overload.
+     */
+    private void complete(ConcurrencyLimiter.Permit permit, HttpStatus httpStatus, SignalType signal) {
+        if (isOverloaded(httpStatus)) {
+            permit.drop();
+        } else if (signal == SignalType.CANCEL) {
+            permit.ignore();
+        } else if (signal == SignalType.ON_ERROR && !httpStatus.is4xxClientError() && !httpStatus.is5xxServerError()) {
+            permit.drop();
+        } else {
+            permit.release();
+        }
+    }
+
+    private boolean isOverloaded(HttpStatus httpStatus) {
+        return httpStatus == HttpStatus.SERVICE_UNAVAILABLE || httpStatus == HttpStatus.TOO_MANY_REQUESTS;
+    }
+}
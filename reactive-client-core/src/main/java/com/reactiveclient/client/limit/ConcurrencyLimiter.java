@@ -0,0 +1,38 @@
+package com.reactiveclient.client.limit;
+
+import reactor.core.publisher.Mono;
+
+public interface ConcurrencyLimiter {
+
+    /**
+     * Emits a permit as soon as the limit allows it, or fails with a
+     * {@link com.reactiveclient.RequestRejectedException} when the request can't wait for one.
+     */
+    Mono<Permit> acquire();
+
+    int getLimit();
+
+    int getInFlight();
+
+    int getQueued();
+
+    long getRejected();
+
+    interface Permit {
+
+        /**
+         * The request completed, its round trip time is a valid sample.
+         */
+        void release();
+
+        /**
+         * The request was rejected or timed out downstream, a sign of overload.
+         */
+        void drop();
+
+        /**
+         * The request ended without a meaningful sample (cancellation, client side failure).
+         */
+        void ignore();
+    }
+}
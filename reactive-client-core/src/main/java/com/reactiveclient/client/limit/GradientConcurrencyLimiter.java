@@ -0,0 +1,68 @@
+package com.reactiveclient.client.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Adjusts the limit from the ratio between the long term and the latest round trip time:
+ * the limit grows while latency is stable and shrinks as soon as requests start queuing downstream.
+ */
+public class GradientConcurrencyLimiter extends AbstractConcurrencyLimiter {
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_SMOOTHING = 2.0 / 601;
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicLong estimatedLimit;
+    private final AtomicLong longRtt;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, 0, 0);
+    }
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueueSize, long maxWait) {
+        super(maxQueueSize, maxWait);
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must verify 0 < minLimit <= initialLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = new AtomicLong(Double.doubleToLongBits(initialLimit));
+        this.longRtt = new AtomicLong(Double.doubleToLongBits(0));
+    }
+
+    @Override
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(estimatedLimit.get());
+    }
+
+    @Override
+    protected void onSample(long rtt, int inFlight, boolean dropped) {
+        double shortRtt = rtt;
+        double currentLongRtt = update(longRtt, value -> value == 0 ? shortRtt : value * (1 - LONG_RTT_SMOOTHING) + shortRtt * LONG_RTT_SMOOTHING);
+        if (currentLongRtt / shortRtt > 2) {
+            update(longRtt, value -> value * 0.95);
+        }
+
+        update(estimatedLimit, limit -> {
+            if (!dropped && inFlight * 2 < limit) {
+                return limit;
+            }
+            double gradient = dropped ? 0.5 : Math.max(0.5, Math.min(1.0, TOLERANCE * currentLongRtt / shortRtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            return Math.max(minLimit, Math.min(maxLimit, newLimit));
+        });
+    }
+
+    private static double update(AtomicLong bits, DoubleUnaryOperator operator) {
+        for (; ; ) {
+            long current = bits.get();
+            double next = operator.applyAsDouble(Double.longBitsToDouble(current));
+            if (bits.compareAndSet(current, Double.doubleToLongBits(next))) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.reactiveclient.client.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PriorityClassMetrics {
+    private final String name;
+    private final int weight;
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private volatile int queueDepth;
+    private volatile long maxWaitTime;
+
+    PriorityClassMetrics(String name, int weight) {
+        this.name = name;
+        this.weight = weight;
+    }
+
+    void recordAdmission(long waitNanos, boolean wasQueued) {
+        admitted.increment();
+        if (wasQueued) {
+            queued.increment();
+            waitTime.add(waitNanos);
+            if (waitNanos > maxWaitTime) {
+                maxWaitTime = waitNanos;
+            }
+        }
+    }
+
+    void recordRejection() {
+        rejected.increment();
+    }
+
+    void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Mean time in milliseconds the queued requests waited for capacity.
+     */
+    public double getMeanWaitTime() {
+        long count = queued.sum();
+        return count == 0 ? 0 : (double) waitTime.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Longest time in milliseconds a request waited for capacity.
+     */
+    public double getMaxWaitTime() {
+        return (double) maxWaitTime / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,29 @@
+package com.reactiveclient.client.limit;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds a permit of the queue until the end of the response body, as the connection is in use until then.
+ */
+public class PriorityExchangeFilter implements ExchangeFilterFunction {
+    private final WeightedFairQueue queue;
+    private final String priorityClass;
+
+    public PriorityExchangeFilter(WeightedFairQueue queue, String priorityClass) {
+        this.queue = queue;
+        this.priorityClass = priorityClass;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return queue.acquire(priorityClass)
+                .flatMap(permit -> next.exchange(request)
+                        .map(response -> BodyEndClientResponse.of(response, signal -> permit.release()))
+                        .doOnError(throwable -> permit.release())
+                        .doOnCancel(permit::release));
+    }
+}
@@ -0,0 +1,26 @@
+package com.reactiveclient.client.limit;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+public class RateLimitExchangeFilter implements ExchangeFilterFunction {
+    private final RateLimiter rateLimiter;
+
+    public RateLimitExchangeFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return rateLimiter.acquire()
+                .then(Mono.defer(() -> next.exchange(request)))
+                .doOnSuccess(response -> {
+                    if (response != null) {
+                        rateLimiter.onResponse(response);
+                    }
+                });
+    }
+}
@@ -0,0 +1,162 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.metadata.RateLimitPolicy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Non blocking token bucket, implemented as a generic cell rate algorithm:
+ * the bucket is a single theoretical arrival time updated with a CAS.
+ */
+public class RateLimiter {
+    public static final String RETRY_AFTER = "Retry-After";
+    public static final String RATE_LIMIT_REMAINING = "X-RateLimit-Remaining";
+    public static final String RATE_LIMIT_RESET = "X-RateLimit-Reset";
+
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long interval;
+    private final long maxWait;
+    private final AtomicLong theoreticalArrivalTime;
+    private final LongAdder delayed;
+    private final LongAdder rejected;
+
+    public RateLimiter(double permitsPerSecond, int burst, long maxWait) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be strictly positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be strictly positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.interval = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.maxWait = maxWait < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(maxWait);
+        this.theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+        this.delayed = new LongAdder();
+        this.rejected = new LongAdder();
+    }
+
+    public RateLimiter(RateLimitPolicy rateLimitPolicy) {
+        this(rateLimitPolicy.getPermitsPerSecond(), rateLimitPolicy.getBurst(), rateLimitPolicy.getMaxWait());
+    }
+
+    /**
+     * Takes a permit, completing right away when the bucket is not empty,
+     * after a delay when it is, or failing if the delay would exceed the maximum wait.
+     * The permit is reserved on each subscription.
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long wait = reserve();
+            if (wait < 0) {
+                rejected.increment();
+                return Mono.error(new RequestRejectedException("Rate limit of " + permitsPerSecond + " requests per second reached"));
+            }
+            if (wait == 0) {
+                return Mono.empty();
+            }
+            delayed.increment();
+            return Mono.delay(Duration.ofNanos(wait)).then();
+        });
+    }
+
+    /**
+     * Empties the bucket until the given time, as asked by the server.
+     *
+     * @param delay time to wait in milliseconds
+     */
+    public void pause(long delay) {
+        if (delay <= 0) {
+            return;
+        }
+        long resumeAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) + (burst - 1) * interval;
+        theoreticalArrivalTime.accumulateAndGet(resumeAt, Math::max);
+    }
+
+    /**
+     * Pauses the bucket from the {@code Retry-After} header of a 429 or 503 response,
+     * or from the {@code X-RateLimit-Reset} header once {@code X-RateLimit-Remaining} reaches 0.
+     */
+    public void onResponse(ClientResponse response) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        HttpStatus statusCode = response.statusCode();
+        if (statusCode == HttpStatus.TOO_MANY_REQUESTS || statusCode == HttpStatus.SERVICE_UNAVAILABLE) {
+            pause(parseRetryAfter(headers));
+        } else if ("0".equals(headers.getFirst(RATE_LIMIT_REMAINING))) {
+            pause(parseRateLimitReset(headers));
+        }
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public long getDelayed() {
+        return delayed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private long reserve() {
+        for (; ; ) {
+            long now = System.nanoTime();
+            long current = theoreticalArrivalTime.get();
+            long next = Math.max(current, now) + interval;
+            long wait = next - burst * interval - now;
+            if (wait > maxWait) {
+                return -1;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    private long parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(RETRY_AFTER);
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                return headers.getFirstDate(RETRY_AFTER) - System.currentTimeMillis();
+            } catch (IllegalArgumentException ignored) {
+                return 0;
+            }
+        }
+    }
+
+    private long parseRateLimitReset(HttpHeaders headers) {
+        String reset = headers.getFirst(RATE_LIMIT_RESET);
+        if (reset == null) {
+            return 0;
+        }
+        try {
+            long value = Long.parseLong(reset.trim());
+            return value > EPOCH_SECONDS_THRESHOLD ?
+                    TimeUnit.SECONDS.toMillis(value) - System.currentTimeMillis() :
+                    TimeUnit.SECONDS.toMillis(value);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
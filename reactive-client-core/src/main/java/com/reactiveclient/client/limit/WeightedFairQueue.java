@@ -0,0 +1,243 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admits at most {@code maxConcurrency} requests at once. When the capacity is used, requests wait
+ * in one queue per priority class, and the queues are served in proportion to the weight of their class
+ * (stride scheduling), so a busy low priority class can't starve the others.
+ */
+public class WeightedFairQueue {
+    public static final String DEFAULT_CLASS = "default";
+
+    private final int maxConcurrency;
+    private final int maxQueueSize;
+    private final long maxWait;
+    private final int defaultWeight;
+    private final Map<String, PriorityClass> classes;
+    private final Object lock = new Object();
+    private int inFlight;
+    private int queued;
+    private double virtualTime;
+
+    private WeightedFairQueue(Builder builder) {
+        this.maxConcurrency = builder.maxConcurrency;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.maxWait = builder.maxWait;
+        this.defaultWeight = builder.defaultWeight;
+        this.classes = new ConcurrentHashMap<>();
+        builder.weights.forEach((name, weight) -> classes.put(name, new PriorityClass(name, weight)));
+    }
+
+    public static Builder newBuilder(int maxConcurrency) {
+        return new Builder(maxConcurrency);
+    }
+
+    /**
+     * Emits a permit as soon as the request of the given class is admitted, or fails with a
+     * {@link RequestRejectedException} when the queue is full or the request waited longer than {@code maxWait}.
+     */
+    public Mono<Permit> acquire(String priorityClass) {
+        PriorityClass target = priorityClass(priorityClass);
+        Mono<Permit> admission = Mono.create(sink -> {
+            Waiter waiter = new Waiter(target, sink);
+            Permit permit = null;
+            boolean rejected = false;
+            synchronized (lock) {
+                if (inFlight < maxConcurrency && queued == 0) {
+                    inFlight++;
+                    target.metrics.recordAdmission(0, false);
+                    permit = new Permit();
+                } else if (queued >= maxQueueSize) {
+                    target.metrics.recordRejection();
+                    rejected = true;
+                } else {
+                    if (target.waiters.isEmpty()) {
+                        target.pass = Math.max(target.pass, virtualTime);
+                    }
+                    target.waiters.offer(waiter);
+                    target.metrics.setQueueDepth(target.waiters.size());
+                    queued++;
+                }
+            }
+            if (permit != null) {
+                sink.success(permit);
+            } else if (rejected) {
+                sink.error(new RequestRejectedException("Priority queue of " + maxQueueSize + " requests is full"));
+            } else {
+                sink.onCancel(waiter::cancel);
+            }
+        });
+        return maxWait > 0 ?
+                admission.timeout(Duration.ofMillis(maxWait), Mono.defer(() -> {
+                    target.metrics.recordRejection();
+                    return Mono.error(new RequestRejectedException("Request of priority class " + target.name + " waited more than " + maxWait + " ms"));
+                })) :
+                admission;
+    }
+
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    public Map<String, PriorityClassMetrics> getMetrics() {
+        Map<String, PriorityClassMetrics> metrics = new LinkedHashMap<>();
+        classes.forEach((name, priorityClass) -> metrics.put(name, priorityClass.metrics));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private PriorityClass priorityClass(String name) {
+        return classes.computeIfAbsent(name == null ? DEFAULT_CLASS : name, key -> new PriorityClass(key, defaultWeight));
+    }
+
+    /**
+     * Hands the capacity of a completed request over to the next waiter, if any.
+     */
+    private void release() {
+        Waiter next = null;
+        synchronized (lock) {
+            PriorityClass selected = null;
+            for (PriorityClass priorityClass : classes.values()) {
+                if (!priorityClass.waiters.isEmpty() && (selected == null || priorityClass.pass < selected.pass)) {
+                    selected = priorityClass;
+                }
+            }
+            if (selected == null) {
+                inFlight--;
+            } else {
+                next = selected.waiters.poll();
+                selected.metrics.setQueueDepth(selected.waiters.size());
+                virtualTime = selected.pass;
+                selected.pass += 1.0 / selected.weight;
+                queued--;
+                next.granted = true;
+                selected.metrics.recordAdmission(System.nanoTime() - next.queuedAt, true);
+            }
+        }
+        if (next != null) {
+            next.sink.success(next.permit);
+        }
+    }
+
+    public class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                WeightedFairQueue.this.release();
+            }
+        }
+    }
+
+    private static class PriorityClass {
+        private final String name;
+        private final int weight;
+        private final ArrayDeque<Waiter> waiters;
+        private final PriorityClassMetrics metrics;
+        private double pass;
+
+        PriorityClass(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+            this.waiters = new ArrayDeque<>();
+            this.metrics = new PriorityClassMetrics(name, weight);
+        }
+    }
+
+    private class Waiter {
+        private final PriorityClass priorityClass;
+        private final MonoSink<Permit> sink;
+        private final Permit permit;
+        private final long queuedAt;
+        private boolean granted;
+
+        Waiter(PriorityClass priorityClass, MonoSink<Permit> sink) {
+            this.priorityClass = priorityClass;
+            this.sink = sink;
+            this.permit = new Permit();
+            this.queuedAt = System.nanoTime();
+        }
+
+        void cancel() {
+            synchronized (lock) {
+                if (!granted) {
+                    if (priorityClass.waiters.remove(this)) {
+                        priorityClass.metrics.setQueueDepth(priorityClass.waiters.size());
+                        queued--;
+                    }
+                    return;
+                }
+            }
+            permit.release();
+        }
+    }
+
+    public static class Builder {
+        private final int maxConcurrency;
+        private final Map<String, Integer> weights;
+        private int maxQueueSize;
+        private long maxWait;
+        private int defaultWeight;
+
+        private Builder(int maxConcurrency) {
+            if (maxConcurrency <= 0) {
+                throw new IllegalArgumentException("maxConcurrency must be strictly positive");
+            }
+            this.maxConcurrency = maxConcurrency;
+            this.weights = new LinkedHashMap<>();
+            this.maxQueueSize = Integer.MAX_VALUE;
+            this.defaultWeight = 1;
+        }
+
+        public Builder weight(String priorityClass, int weight) {
+            if (weight <= 0) {
+                throw new IllegalArgumentException("weight must be strictly positive");
+            }
+            this.weights.put(priorityClass, weight);
+            return this;
+        }
+
+        /**
+         * Weight of the classes not declared with {@link #weight(String, int)}.
+         */
+        public Builder defaultWeight(int defaultWeight) {
+            if (defaultWeight <= 0) {
+                throw new IllegalArgumentException("defaultWeight must be strictly positive");
+            }
+            this.defaultWeight = defaultWeight;
+            return this;
+        }
+
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("maxQueueSize must be positive");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Maximum time in milliseconds a request waits for capacity, 0 waits as long as needed.
+         */
+        public Builder maxWait(long maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public WeightedFairQueue build() {
+            return new WeightedFairQueue(this);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.reactiveclient.client.loopback;
+
+import com.reactiveclient.ReactiveClientTimeoutException;
+import com.reactiveclient.client.ExtendedClientHttpConnector;
+import com.reactiveclient.metadata.Timeouts;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Dispatches the requests of a client to an {@link HttpHandler} in the same JVM, without any socket.
+ * The request and response bodies are passed as they are written, so streaming responses, status codes,
+ * headers and the error decoders behave as they do over the network.
+ */
+public class LoopbackClientHttpConnector implements ExtendedClientHttpConnector {
+    private final HttpHandler httpHandler;
+    private final DataBufferFactory bufferFactory;
+
+    public LoopbackClientHttpConnector(HttpHandler httpHandler) {
+        this.httpHandler = httpHandler;
+        this.bufferFactory = new DefaultDataBufferFactory();
+    }
+
+    public static LoopbackClientHttpConnector of(RouterFunction<?> routerFunction) {
+        return new LoopbackClientHttpConnector(RouterFunctions.toHttpHandler(routerFunction));
+    }
+
+    public static LoopbackClientHttpConnector of(WebHandler webHandler) {
+        return new LoopbackClientHttpConnector(WebHttpHandlerBuilder.webHandler(webHandler).build());
+    }
+
+    @Override
+    public Mono<ClientHttpResponse> connect(HttpMethod method, URI uri, Function<? super ClientHttpRequest, Mono<Void>> requestCallback,
+                                            Timeouts timeouts, long deadline) {
+        Mono<ClientHttpResponse> response = Mono.defer(() -> {
+            LoopbackClientHttpRequest clientRequest = new LoopbackClientHttpRequest(method, uri, bufferFactory);
+            return requestCallback.apply(clientRequest)
+                    .then(Mono.defer(() -> {
+                        LoopbackServerHttpResponse serverResponse = new LoopbackServerHttpResponse(bufferFactory, timeouts.getReadIdle());
+                        return httpHandler.handle(new LoopbackServerHttpRequest(clientRequest), serverResponse)
+                                .then(Mono.defer(serverResponse::setComplete))
+                                .then(serverResponse.getClientResponse());
+                    }));
+        });
+        if (timeouts.hasResponse()) {
+            response = response.timeout(Duration.ofMillis(timeouts.getResponse()),
+                    Mono.error(new ReactiveClientTimeoutException("No response received within " + timeouts.getResponse() + " ms")));
+        }
+        if (deadline != Timeouts.NONE) {
+            response = response.timeout(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())),
+                    Mono.error(new ReactiveClientTimeoutException("Request deadline exceeded")));
+        }
+        return response;
+    }
+
+    @Override
+    public Mono<Integer> warmUp(URI uri, int connections) {
+        return Mono.just(connections);
+    }
+}
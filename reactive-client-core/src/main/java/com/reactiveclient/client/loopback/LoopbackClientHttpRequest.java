@@ -0,0 +1,81 @@
+package com.reactiveclient.client.loopback;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.AbstractClientHttpRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class LoopbackClientHttpRequest extends AbstractClientHttpRequest {
+    private final HttpMethod method;
+    private final URI uri;
+    private final DataBufferFactory bufferFactory;
+    private Flux<DataBuffer> body;
+
+    LoopbackClientHttpRequest(HttpMethod method, URI uri, DataBufferFactory bufferFactory) {
+        this.method = method;
+        this.uri = uri;
+        this.bufferFactory = bufferFactory;
+        this.body = Flux.empty();
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    @Override
+    public URI getURI() {
+        return uri;
+    }
+
+    @Override
+    public DataBufferFactory bufferFactory() {
+        return bufferFactory;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return doCommit(() -> {
+            this.body = Flux.from(body);
+            return Mono.empty();
+        });
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return writeWith(Flux.from(body).concatMap(Flux::from));
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return doCommit();
+    }
+
+    Flux<DataBuffer> getBody() {
+        return body;
+    }
+
+    @Override
+    protected void applyHeaders() {
+    }
+
+    @Override
+    protected void applyCookies() {
+        String cookies = getCookies().values().stream()
+                .flatMap(List::stream)
+                .map(HttpCookie::toString)
+                .collect(Collectors.joining("; "));
+        if (!cookies.isEmpty()) {
+            getHeaders().add(HttpHeaders.COOKIE, cookies);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.reactiveclient.client.loopback;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+
+class LoopbackClientHttpResponse implements ClientHttpResponse {
+    private final HttpStatus status;
+    private final HttpHeaders headers;
+    private final Flux<DataBuffer> body;
+
+    LoopbackClientHttpResponse(HttpStatus status, HttpHeaders headers, Flux<DataBuffer> body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() {
+        return status;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        return body;
+    }
+
+    @Override
+    public MultiValueMap<String, ResponseCookie> getCookies() {
+        MultiValueMap<String, ResponseCookie> cookies = new LinkedMultiValueMap<>();
+        for (String header : headers.getOrEmpty(HttpHeaders.SET_COOKIE)) {
+            for (java.net.HttpCookie cookie : java.net.HttpCookie.parse(header)) {
+                cookies.add(cookie.getName(), ResponseCookie.from(cookie.getName(), cookie.getValue()).build());
+            }
+        }
+        return cookies;
+    }
+}
@@ -0,0 +1,55 @@
+package com.reactiveclient.client.loopback;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.AbstractServerHttpRequest;
+import org.springframework.http.server.reactive.SslInfo;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+
+class LoopbackServerHttpRequest extends AbstractServerHttpRequest {
+    private final LoopbackClientHttpRequest clientRequest;
+
+    LoopbackServerHttpRequest(LoopbackClientHttpRequest clientRequest) {
+        super(clientRequest.getURI(), "", clientRequest.getHeaders());
+        this.clientRequest = clientRequest;
+    }
+
+    @Override
+    public String getMethodValue() {
+        return clientRequest.getMethod().name();
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        return clientRequest.getBody();
+    }
+
+    @Override
+    protected MultiValueMap<String, HttpCookie> initCookies() {
+        MultiValueMap<String, HttpCookie> cookies = new LinkedMultiValueMap<>();
+        for (String header : getHeaders().getOrEmpty(HttpHeaders.COOKIE)) {
+            for (String cookie : header.split(";")) {
+                int separator = cookie.indexOf('=');
+                if (separator > 0) {
+                    String name = cookie.substring(0, separator).trim();
+                    cookies.add(name, new HttpCookie(name, cookie.substring(separator + 1).trim()));
+                }
+            }
+        }
+        return cookies;
+    }
+
+    @Override
+    protected SslInfo initSslInfo() {
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getNativeRequest() {
+        return (T) clientRequest;
+    }
+}
@@ -0,0 +1,85 @@
+package com.reactiveclient.client.loopback;
+
+import com.reactiveclient.ReactiveClientTimeoutException;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hands the status, headers and body over to the client as soon as the handler commits the response,
+ * the body is then produced as the client reads it.
+ */
+class LoopbackServerHttpResponse extends AbstractServerHttpResponse {
+    private final long readIdleTimeout;
+    private final MonoProcessor<ClientHttpResponse> clientResponse;
+    private final AtomicBoolean sent;
+
+    LoopbackServerHttpResponse(DataBufferFactory bufferFactory, long readIdleTimeout) {
+        super(bufferFactory);
+        this.readIdleTimeout = readIdleTimeout;
+        this.clientResponse = MonoProcessor.create();
+        this.sent = new AtomicBoolean();
+    }
+
+    Mono<ClientHttpResponse> getClientResponse() {
+        return clientResponse;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getNativeResponse() {
+        return (T) this;
+    }
+
+    @Override
+    protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
+        send(Flux.from(body));
+        return Mono.empty();
+    }
+
+    @Override
+    protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        send(Flux.from(body).concatMap(Flux::from));
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return super.setComplete()
+                .then(Mono.fromRunnable(() -> send(Flux.empty())));
+    }
+
+    @Override
+    protected void applyStatusCode() {
+    }
+
+    @Override
+    protected void applyHeaders() {
+    }
+
+    @Override
+    protected void applyCookies() {
+        getCookies().values().forEach(cookies -> cookies.forEach(cookie -> getHeaders().add(HttpHeaders.SET_COOKIE, cookie.toString())));
+    }
+
+    private void send(Flux<DataBuffer> body) {
+        if (sent.compareAndSet(false, true)) {
+            if (readIdleTimeout > 0) {
+                long timeout = readIdleTimeout;
+                body = body.timeout(Duration.ofMillis(timeout), Flux.error(new ReactiveClientTimeoutException("No data received for " + timeout + " ms")));
+            }
+            HttpStatus status = getStatusCode() != null ? getStatusCode() : HttpStatus.OK;
+            clientResponse.onNext(new LoopbackClientHttpResponse(status, getHeaders(), body));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.reactiveclient.client.multipart;
+
+import com.reactiveclient.metadata.request.MultipartBody;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes a {@code multipart/form-data} body as a stream: each part is read only when the previous one is written,
+ * and files are read chunk by chunk, so their content is never held in memory.
+ * Parts can be a {@link Path}, a {@link File}, a {@link Resource}, a {@code Publisher<DataBuffer>}, a byte array,
+ * a {@link CharSequence}, or any other object written as JSON with the JSON encoder of the client.
+ * Buffers are allocated by the buffer factory of the request.
+ */
+public class MultipartBodyInserter implements BodyInserter<MultipartBody, ClientHttpRequest> {
+    private static final int CHUNK_SIZE = 8192;
+    private static final char[] BOUNDARY_CHARS = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final MultipartBody body;
+
+    private MultipartBodyInserter(MultipartBody body) {
+        this.body = body;
+    }
+
+    public static MultipartBodyInserter fromParts(MultipartBody body) {
+        return new MultipartBodyInserter(body);
+    }
+
+    @Override
+    public Mono<Void> insert(ClientHttpRequest request, Context context) {
+        String boundary = generateBoundary();
+        request.getHeaders().setContentType(new MediaType(MediaType.MULTIPART_FORM_DATA, Collections.singletonMap("boundary", boundary)));
+        DataBufferFactory bufferFactory = request.bufferFactory();
+
+        Flux<DataBuffer> content = Flux.fromIterable(body.getParts())
+                .concatMap(part -> Flux.concat(
+                        Mono.fromSupplier(() -> text(bufferFactory, partHeaders(boundary, part))),
+                        partContent(bufferFactory, part, context),
+                        Mono.fromSupplier(() -> text(bufferFactory, "\r\n"))))
+                .concatWith(Mono.fromSupplier(() -> text(bufferFactory, "--" + boundary + "--\r\n")));
+        return request.writeWith(content);
+    }
+
+    private String partHeaders(String boundary, MultipartBody.Part part) {
+        StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(escape(part.getName())).append('"');
+        String filename = filename(part);
+        if (filename != null) {
+            headers.append("; filename=\"").append(escape(filename)).append('"');
+        }
+        return headers.append("\r\nContent-Type: ").append(contentType(part, filename)).append("\r\n\r\n").toString();
+    }
+
+    private String filename(MultipartBody.Part part) {
+        Object value = part.getValue();
+        if (value instanceof Path) {
+            return ((Path) value).getFileName().toString();
+        } else if (value instanceof File) {
+            return ((File) value).getName();
+        } else if (value instanceof Resource) {
+            return ((Resource) value).getFilename();
+        } else if (isDataBuffers(part)) {
+            return part.getName();
+        }
+        return null;
+    }
+
+    private String contentType(MultipartBody.Part part, String filename) {
+        Object value = part.getValue();
+        if (value instanceof CharSequence) {
+            return MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8";
+        } else if (value instanceof byte[] || isDataBuffers(part)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        } else if (filename != null) {
+            String guessed = URLConnection.guessContentTypeFromName(filename);
+            return guessed != null ? guessed : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        return MediaType.APPLICATION_JSON_VALUE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Publisher<DataBuffer> partContent(DataBufferFactory bufferFactory, MultipartBody.Part part, Context context) {
+        Object value = part.getValue();
+        if (value instanceof Path) {
+            return read(() -> Files.newInputStream((Path) value), bufferFactory);
+        } else if (value instanceof File) {
+            return read(() -> Files.newInputStream(((File) value).toPath()), bufferFactory);
+        } else if (value instanceof Resource) {
+            return read(((Resource) value)::getInputStream, bufferFactory);
+        } else if (isDataBuffers(part)) {
+            return (Publisher<DataBuffer>) value;
+        } else if (value instanceof byte[]) {
+            return Mono.fromSupplier(() -> bufferFactory.wrap(ByteBuffer.wrap((byte[]) value)));
+        } else if (value instanceof CharSequence) {
+            return Mono.fromSupplier(() -> text(bufferFactory, value.toString()));
+        } else if (value instanceof Publisher) {
+            return encodeJson((Publisher<?>) value, part.getType().getGeneric(0), bufferFactory, context);
+        }
+        return encodeJson(Mono.just(value), ResolvableType.forInstance(value), bufferFactory, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Flux<DataBuffer> encodeJson(Publisher<?> value, ResolvableType type, DataBufferFactory bufferFactory, Context context) {
+        return context.messageWriters().get()
+                .filter(writer -> writer instanceof EncoderHttpMessageWriter && writer.canWrite(type, MediaType.APPLICATION_JSON))
+                .map(writer -> (Encoder<Object>) ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+                .findFirst()
+                .map(encoder -> encoder.encode(value, bufferFactory, type, MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .orElseGet(() -> Flux.error(new CodecException("No JSON encoder for part of type " + type)));
+    }
+
+    private boolean isDataBuffers(MultipartBody.Part part) {
+        return part.getValue() instanceof Publisher
+                && DataBuffer.class.isAssignableFrom(part.getType().getGeneric(0).resolve(Object.class));
+    }
+
+    /**
+     * Reads a stream on the elastic scheduler, to keep blocking reads off the event loop.
+     * Each chunk is read into one array per stream and copied into a buffer of the request.
+     */
+    private static Flux<DataBuffer> read(Callable<InputStream> inputStreamSupplier, DataBufferFactory bufferFactory) {
+        return Flux.using(inputStreamSupplier,
+                inputStream -> Flux.<DataBuffer, byte[]>generate(() -> new byte[CHUNK_SIZE], (chunk, sink) -> {
+                    try {
+                        int read = inputStream.read(chunk);
+                        if (read < 0) {
+                            sink.complete();
+                        } else {
+                            sink.next(bufferFactory.allocateBuffer(read).write(chunk, 0, read));
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                    return chunk;
+                }),
+                inputStream -> {
+                    try {
+                        inputStream.close();
+                    } catch (IOException e) {
+                        // nothing left to read
+                    }
+                })
+                .subscribeOn(Schedulers.elastic());
+    }
+
+    private static DataBuffer text(DataBufferFactory bufferFactory, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return bufferFactory.allocateBuffer(bytes.length).write(bytes);
+    }
+
+    /**
+     * Percent-encodes the quotes and line breaks of a name or filename as browsers do, so that it can't end its
+     * header and inject others.
+     */
+    private static String escape(String value) {
+        return value.replace("\"", "%22")
+                .replace("\r", "%0D")
+                .replace("\n", "%0A");
+    }
+
+    private static String generateBoundary() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] boundary = new char[30];
+        for (int i = 0; i < boundary.length; i++) {
+            boundary[i] = BOUNDARY_CHARS[random.nextInt(BOUNDARY_CHARS.length)];
+        }
+        return new String(boundary);
+    }
+}
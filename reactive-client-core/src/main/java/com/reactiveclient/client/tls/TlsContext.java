@@ -0,0 +1,82 @@
+package com.reactiveclient.client.tls;
+
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SslContext} shared by all the clients with the same {@link TlsOptions}, so that they share
+ * its session cache. OpenSSL is used when netty-tcnative is available, the JDK provider otherwise.
+ */
+public class TlsContext {
+    private static final Map<TlsOptions, TlsContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final ResourceLoader RESOURCE_LOADER = new DefaultResourceLoader();
+
+    private final SslContext sslContext;
+    private final TlsMetrics metrics;
+
+    private TlsContext(SslContext sslContext) {
+        this.sslContext = sslContext;
+        this.metrics = new TlsMetrics();
+    }
+
+    public static TlsContext of(TlsOptions tlsOptions) {
+        return CONTEXTS.computeIfAbsent(tlsOptions, options -> new TlsContext(build(options)));
+    }
+
+    public static SslProvider provider() {
+        return OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK;
+    }
+
+    public SslContext getSslContext() {
+        return sslContext;
+    }
+
+    public TlsMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void register(Channel channel) {
+        channel.pipeline().addLast(TlsHandshakeMetricsHandler.NAME, new TlsHandshakeMetricsHandler(metrics));
+    }
+
+    private static SslContext build(TlsOptions tlsOptions) {
+        SslContextBuilder builder = SslContextBuilder.forClient()
+                .sslProvider(provider())
+                .sessionCacheSize(tlsOptions.getSessionCacheSize())
+                .sessionTimeout(tlsOptions.getSessionTimeout());
+        try (InputStream trustCertificates = open(tlsOptions.getTrustCertificates());
+             InputStream keyCertificateChain = open(tlsOptions.getKeyCertificateChain());
+             InputStream key = open(tlsOptions.getKey())) {
+            if (tlsOptions.isInsecure()) {
+                builder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+            } else if (trustCertificates != null) {
+                builder.trustManager(trustCertificates);
+            }
+            if (keyCertificateChain != null) {
+                builder.keyManager(keyCertificateChain, key, tlsOptions.getKeyPassword());
+            }
+            return builder.build();
+        } catch (SSLException e) {
+            throw new IllegalStateException("Invalid TLS configuration " + tlsOptions, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(String location) throws IOException {
+        return location != null ? RESOURCE_LOADER.getResource(location).getInputStream() : null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.reactiveclient.client.tls;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+
+import javax.net.ssl.SSLSession;
+
+class TlsHandshakeMetricsHandler extends ChannelInboundHandlerAdapter {
+    static final String NAME = "reactiveClientTlsMetrics";
+
+    private final TlsMetrics metrics;
+    private long start;
+    private long startMillis;
+
+    TlsHandshakeMetricsHandler(TlsMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        start = System.nanoTime();
+        startMillis = System.currentTimeMillis();
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof SslHandshakeCompletionEvent) {
+            if (((SslHandshakeCompletionEvent) evt).isSuccess()) {
+                metrics.recordHandshake(System.nanoTime() - start, isResumed(ctx));
+            } else {
+                metrics.recordFailure();
+            }
+            super.userEventTriggered(ctx, evt);
+            ctx.pipeline().remove(this);
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    private boolean isResumed(ChannelHandlerContext ctx) {
+        SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+        if (sslHandler == null) {
+            return false;
+        }
+        SSLSession session = sslHandler.engine().getSession();
+        return session != null && session.getCreationTime() < startMillis;
+    }
+}
@@ -0,0 +1,56 @@
+package com.reactiveclient.client.tls;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TlsMetrics {
+    private final LongAdder handshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder fullHandshakeTime = new LongAdder();
+    private final LongAdder resumedHandshakeTime = new LongAdder();
+
+    void recordHandshake(long nanos, boolean resumed) {
+        handshakes.increment();
+        if (resumed) {
+            resumedHandshakes.increment();
+            resumedHandshakeTime.add(nanos);
+        } else {
+            fullHandshakeTime.add(nanos);
+        }
+    }
+
+    void recordFailure() {
+        failures.increment();
+    }
+
+    public long getHandshakes() {
+        return handshakes.sum();
+    }
+
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * Mean time in milliseconds of the handshakes that did not resume a session.
+     */
+    public double getMeanFullHandshakeTime() {
+        return mean(fullHandshakeTime.sum(), handshakes.sum() - resumedHandshakes.sum());
+    }
+
+    /**
+     * Mean time in milliseconds of the handshakes that resumed a session.
+     */
+    public double getMeanResumedHandshakeTime() {
+        return mean(resumedHandshakeTime.sum(), resumedHandshakes.sum());
+    }
+
+    private double mean(long totalNanos, long count) {
+        return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
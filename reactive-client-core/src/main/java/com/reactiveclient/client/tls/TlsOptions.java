@@ -0,0 +1,110 @@
+package com.reactiveclient.client.tls;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Trust and key configuration of a client. Locations are Spring resource locations,
+ * such as {@code classpath:ca.pem} or {@code file:/etc/certs/client.pem}.
+ */
+@Getter
+@ToString(exclude = "keyPassword")
+@EqualsAndHashCode
+public class TlsOptions {
+    public static final long DEFAULT_SESSION_CACHE_SIZE = 0;
+    public static final long DEFAULT_SESSION_TIMEOUT = 0;
+
+    private String trustCertificates;
+    private String keyCertificateChain;
+    private String key;
+    private String keyPassword;
+    private boolean insecure;
+    private long sessionCacheSize;
+    private long sessionTimeout;
+
+    private TlsOptions(Builder builder) {
+        trustCertificates = builder.trustCertificates;
+        keyCertificateChain = builder.keyCertificateChain;
+        key = builder.key;
+        keyPassword = builder.keyPassword;
+        insecure = builder.insecure;
+        sessionCacheSize = builder.sessionCacheSize;
+        sessionTimeout = builder.sessionTimeout;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    public static TlsOptions defaults() {
+        return newBuilder().build();
+    }
+
+    public static class Builder {
+        private String trustCertificates;
+        private String keyCertificateChain;
+        private String key;
+        private String keyPassword;
+        private boolean insecure;
+        private long sessionCacheSize;
+        private long sessionTimeout;
+
+        private Builder() {
+            sessionCacheSize = DEFAULT_SESSION_CACHE_SIZE;
+            sessionTimeout = DEFAULT_SESSION_TIMEOUT;
+        }
+
+        /**
+         * PEM certificates trusted to verify the server, the JVM trust store is used if not set.
+         */
+        public Builder trustCertificates(String trustCertificates) {
+            this.trustCertificates = trustCertificates;
+            return this;
+        }
+
+        /**
+         * PEM certificate chain and PKCS#8 key presented to the server.
+         */
+        public Builder keyManager(String keyCertificateChain, String key, String keyPassword) {
+            this.keyCertificateChain = keyCertificateChain;
+            this.key = key;
+            this.keyPassword = keyPassword;
+            return this;
+        }
+
+        /**
+         * Trusts any server certificate, for tests only.
+         */
+        public Builder insecure(boolean insecure) {
+            this.insecure = insecure;
+            return this;
+        }
+
+        /**
+         * Number of sessions kept for resumption, 0 keeps the provider default.
+         */
+        public Builder sessionCacheSize(long sessionCacheSize) {
+            this.sessionCacheSize = sessionCacheSize;
+            return this;
+        }
+
+        /**
+         * Time in seconds a session can be resumed, 0 keeps the provider default.
+         */
+        public Builder sessionTimeout(long sessionTimeout) {
+            this.sessionTimeout = sessionTimeout;
+            return this;
+        }
+
+        public TlsOptions build() {
+            if ((keyCertificateChain == null) != (key == null)) {
+                throw new IllegalArgumentException("keyCertificateChain and key must be set together");
+            }
+            if (sessionCacheSize < 0 || sessionTimeout < 0) {
+                throw new IllegalArgumentException("sessionCacheSize and sessionTimeout must be positive");
+            }
+            return new TlsOptions(this);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.reactiveclient.handler;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.metadata.BatchPolicy;
+import com.reactiveclient.metadata.MethodMetadata;
+import com.reactiveclient.metadata.request.ReactiveRequest;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.UnicastProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the concurrent calls of a {@link com.reactiveclient.annotation.Batch} method,
+ * sends them as one request and dispatches the response items back to each call.
+ * Calls with different headers are sent in separate requests, each with its own headers.
+ * The key property of each item is converted to the type of the first parameter before matching it to the calls.
+ */
+public class BatchReactiveMethodHandler implements ReactiveMethodHandler {
+
+    private WebClient client;
+    private MethodMetadata methodMetadata;
+    private Consumer<ReactiveRequest> requestInterceptor;
+    private BatchPolicy batchPolicy;
+    private Class<?> elementClass;
+    private Class<?> keyClass;
+    private ConversionService conversionService;
+    private FluxSink<BatchCall> calls;
+    private boolean closed;
+
+    public BatchReactiveMethodHandler(MethodMetadata methodMetadata, WebClient client, Consumer<ReactiveRequest> requestInterceptor) {
+        this.client = client;
+        this.methodMetadata = methodMetadata;
+        this.requestInterceptor = requestInterceptor;
+        this.batchPolicy = methodMetadata.getBatch();
+        this.elementClass = methodMetadata.getResponseType().getGeneric(0).getRawClass();
+        this.keyClass = ClassUtils.resolvePrimitiveIfNecessary(methodMetadata.getTargetMethod().getParameterTypes()[0]);
+        this.conversionService = DefaultConversionService.getSharedInstance();
+
+        UnicastProcessor<BatchCall> processor = UnicastProcessor.create();
+        this.calls = processor.sink();
+        processor
+                .bufferTimeout(batchPolicy.getMaxSize(), Duration.ofMillis(batchPolicy.getWindow()))
+                .subscribe(this::split);
+    }
+
+    @Override
+    public Object invoke(Object[] args) {
+        return Mono.create(sink -> {
+            ReactiveRequest reactiveRequest = methodMetadata.getReactiveRequestTemplate().apply(args);
+            requestInterceptor.accept(reactiveRequest);
+            BatchCall call = new BatchCall(args[0], reactiveRequest.getHttpHeaders(), sink);
+            sink.onCancel(call::cancel);
+            synchronized (this) {
+                if (closed) {
+                    sink.error(new RequestRejectedException("Batch call " + methodMetadata.getTargetMethod().getName() + " rejected: the client is closed"));
+                    return;
+                }
+                calls.next(call);
+            }
+        });
+    }
+
+    /**
+     * Sends the calls collected so far and stops the processor, later calls are rejected.
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            calls.complete();
+        }
+    }
+
+    /**
+     * Never throws, a failure only fails the calls of its batch so that the processor keeps collecting the next ones.
+     * Calls cancelled while waiting for their batch are left out of the request.
+     */
+    private void split(List<BatchCall> calls) {
+        Map<HttpHeaders, List<BatchCall>> batches = new LinkedHashMap<>();
+        for (BatchCall call : calls) {
+            if (call.cancelled) {
+                continue;
+            }
+            batches.computeIfAbsent(call.httpHeaders, httpHeaders -> new ArrayList<>()).add(call);
+        }
+        batches.forEach((httpHeaders, batch) -> {
+            try {
+                send(httpHeaders, batch);
+            } catch (RuntimeException e) {
+                batch.forEach(call -> call.sink.error(e));
+            }
+        });
+    }
+
+    private void send(HttpHeaders callHeaders, List<BatchCall> batch) {
+        Set<Object> keys = new LinkedHashSet<>();
+        for (BatchCall call : batch) {
+            keys.add(call.key);
+        }
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.putAll(callHeaders);
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        client.method(HttpMethod.POST)
+                .uri(batchPolicy.getUri())
+                .headers(httpHeaders)
+                .body(BodyInserters.fromObject(new ArrayList<>(keys)))
+                .retrieve()
+                .bodyToFlux(elementClass)
+                .collectMap(this::keyOf)
+                .subscribe(
+                        items -> batch.forEach(call -> call.complete(items.get(call.key))),
+                        throwable -> batch.forEach(call -> call.sink.error(throwable)));
+    }
+
+    private Object keyOf(Object item) {
+        Object key = item instanceof Map ?
+                ((Map<?, ?>) item).get(batchPolicy.getKey()) :
+                PropertyAccessorFactory.forBeanPropertyAccess(item).getPropertyValue(batchPolicy.getKey());
+        return conversionService.convert(key, keyClass);
+    }
+
+    private static class BatchCall {
+        private final Object key;
+        private final HttpHeaders httpHeaders;
+        private final MonoSink<Object> sink;
+        private volatile boolean cancelled;
+
+        BatchCall(Object key, HttpHeaders httpHeaders, MonoSink<Object> sink) {
+            this.key = key;
+            this.httpHeaders = httpHeaders;
+            this.sink = sink;
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        void complete(Object item) {
+            if (item != null) {
+                sink.success(item);
+            } else {
+                sink.success();
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.reactiveclient.handler;
 
+import com.reactiveclient.CloseableClient;
+
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -14,6 +16,10 @@ public class DefaultReactiveInvocationHandler implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == CloseableClient.class || method.getDeclaringClass() == AutoCloseable.class) {
+            invocationDispatcher.values().forEach(ReactiveMethodHandler::close);
+            return null;
+        }
         return invocationDispatcher.get(method).invoke(args);
     }
 }
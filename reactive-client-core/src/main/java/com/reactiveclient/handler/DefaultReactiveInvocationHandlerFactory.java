@@ -1,8 +1,10 @@
 package com.reactiveclient.handler;
 
+import com.reactiveclient.client.WebClientFactory;
 import com.reactiveclient.metadata.MethodMetadata;
 import com.reactiveclient.metadata.request.ReactiveRequest;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
@@ -14,11 +16,25 @@ import java.util.stream.Collectors;
 public class DefaultReactiveInvocationHandlerFactory  implements ReactiveInvocationHandlerFactory {
 
     @Override
-    public InvocationHandler create(List<MethodMetadata> requestTemplates, WebClient webClient, Consumer<ReactiveRequest> requestInterceptor) {
+    public InvocationHandler create(List<MethodMetadata> requestTemplates, WebClientFactory webClientFactory, Consumer<ReactiveRequest> requestInterceptor) {
         Map<Method, ReactiveMethodHandler> invocationDispatcher = requestTemplates
                 .stream()
-                .collect(Collectors.toMap(MethodMetadata::getTargetMethod, methodMetadata -> new DefaultReactiveMethodHandler(methodMetadata, webClient, requestInterceptor)));
+                .collect(Collectors.toMap(MethodMetadata::getTargetMethod, methodMetadata -> createMethodHandler(methodMetadata, webClientFactory, requestInterceptor)));
 
         return new DefaultReactiveInvocationHandler(invocationDispatcher);
     }
+
+    private ReactiveMethodHandler createMethodHandler(MethodMetadata methodMetadata, WebClientFactory webClientFactory, Consumer<ReactiveRequest> requestInterceptor) {
+        if (methodMetadata.getBatch() != null) {
+            return new BatchReactiveMethodHandler(methodMetadata, webClientFactory.create(methodMetadata), requestInterceptor);
+        }
+        ReactiveMethodHandler methodHandler = new DefaultReactiveMethodHandler(methodMetadata, webClientFactory.create(methodMetadata), requestInterceptor,
+                void.class == methodMetadata.getResponseType().resolve() ? webClientFactory.getFireAndForgetDispatcher() : null);
+        if (methodMetadata.getStaleFallback() != null) {
+            Assert.isTrue(methodMetadata.getReactiveRequestTemplate().getHttpMethod() == HttpMethod.GET,
+                    () -> "Invalid stale fallback method " + methodMetadata.getTargetMethod().getName() + ": only GET is supported");
+            return new StaleFallbackReactiveMethodHandler(methodHandler, methodMetadata.getStaleFallback());
+        }
+        return methodHandler;
+    }
 }
@@ -1,33 +1,53 @@
 package com.reactiveclient.handler;
 
+import com.reactiveclient.ReactiveClientTimeoutException;
+import com.reactiveclient.client.TypedClientResponse;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.client.form.FormBodyInserter;
+import com.reactiveclient.client.multipart.MultipartBodyInserter;
 import com.reactiveclient.metadata.MethodMetadata;
+import com.reactiveclient.metadata.request.FormBody;
+import com.reactiveclient.metadata.request.MultipartBody;
 import com.reactiveclient.metadata.request.ReactiveRequest;
 import org.reactivestreams.Publisher;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class DefaultReactiveMethodHandler implements ReactiveMethodHandler {
+    private static final ReactiveAdapterRegistry ADAPTER_REGISTRY = new ReactiveAdapterRegistry();
 
     private WebClient client;
     private MethodMetadata methodMetadata;
     private Consumer<ReactiveRequest> requestInterceptor;
-    private Function<ReactiveRequest, Publisher<?>> requestFunction;
+    private FireAndForgetDispatcher dispatcher;
+    private Function<ReactiveRequest, ?> requestFunction;
 
-    public DefaultReactiveMethodHandler(MethodMetadata methodMetadata, WebClient client, Consumer<ReactiveRequest> requestInterceptor) {
+    public DefaultReactiveMethodHandler(MethodMetadata methodMetadata, WebClient client, Consumer<ReactiveRequest> requestInterceptor, FireAndForgetDispatcher dispatcher) {
         this.client = client;
         this.methodMetadata = methodMetadata;
         this.requestInterceptor = requestInterceptor;
-        this.requestFunction = buildWebClient(methodMetadata.getBodyType())
-                .andThen(responseExtractor(methodMetadata.getResponseType()));
+        this.dispatcher = dispatcher;
+        this.requestFunction = requestFunction(methodMetadata.getBodyType(), methodMetadata.getResponseType());
     }
 
     @Override
@@ -39,28 +59,171 @@ public class DefaultReactiveMethodHandler implements ReactiveMethodHandler {
         return requestFunction.apply(reactiveRequest);
     }
 
+    /**
+     * Other return types than {@code Mono} and {@code Flux} are adapted from the publisher of the matching Reactor type,
+     * with the adapter of the registry resolved once here.
+     */
+    private Function<ReactiveRequest, ?> requestFunction(ResolvableType bodyType, ResolvableType returnType) {
+        Class<?> returnClass = returnType.resolve(Object.class);
+        if (void.class == returnClass || Mono.class.isAssignableFrom(returnClass) || Flux.class.isAssignableFrom(returnClass)) {
+            return publisherFunction(bodyType, returnType);
+        } else if (Publisher.class == returnClass) {
+            return publisherFunction(bodyType, ResolvableType.forClassWithGenerics(Flux.class, returnType.getGeneric(0)));
+        }
+        ReactiveAdapter adapter = ADAPTER_REGISTRY.getAdapter(returnClass);
+        if (adapter == null) {
+            throw new IllegalArgumentException("Invalid method " + methodMetadata.getTargetMethod().getName() + ": unsupported return type " + returnType);
+        }
+        ResolvableType publisherType;
+        if (adapter.isNoValue()) {
+            publisherType = ResolvableType.forClassWithGenerics(Mono.class, Void.class);
+        } else {
+            publisherType = ResolvableType.forClassWithGenerics(adapter.isMultiValue() ? Flux.class : Mono.class, returnType.getGeneric(0));
+        }
+        return publisherFunction(bodyType, publisherType)
+                .andThen(adapter::fromPublisher);
+    }
+
+    private Function<ReactiveRequest, Publisher<?>> publisherFunction(ResolvableType bodyType, ResolvableType returnType) {
+        if (void.class == returnType.getRawClass()) {
+            return fireAndForget(bodyType);
+        } else if (isServerSentEvents(returnType)) {
+            return serverSentEvents(bodyType, returnType.getGeneric(0));
+        } else if (isResponseEntity(returnType)) {
+            return responseEntity(bodyType, returnType.getGeneric(0).getGeneric(0));
+        }
+        return buildWebClient(bodyType)
+                .andThen(responseExtractor(returnType));
+    }
+
+    private Function<ReactiveRequest, Publisher<?>> fireAndForget(ResolvableType bodyType) {
+        Method method = methodMetadata.getTargetMethod();
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Function<ReactiveRequest, WebClient.ResponseSpec> webClient = buildWebClient(bodyType);
+        return request -> {
+            dispatcher.dispatch(name, () -> webClient.apply(request).bodyToMono(Void.class));
+            return null;
+        };
+    }
+
     private Function<ReactiveRequest, WebClient.ResponseSpec> buildWebClient(ResolvableType bodyType) {
-        return request -> client.method(request.getHttpMethod())
-                .uri(request.expand())
-                .headers(request.getHttpHeaders())
-                .body(toBodyInserter(bodyType, request.getBody()))
+        return request -> requestSpec(bodyType, request, request.getHttpHeaders())
                 .retrieve();
     }
 
+    private WebClient.RequestHeadersSpec<?> requestSpec(ResolvableType bodyType, ReactiveRequest request, HttpHeaders httpHeaders) {
+        return client.method(request.getHttpMethod())
+                .uri(request.expand())
+                .headers(httpHeaders)
+                .body(toBodyInserter(bodyType, request.getBody()));
+    }
+
+    private Mono<TypedClientResponse> exchange(ResolvableType bodyType, ReactiveRequest request, HttpHeaders httpHeaders) {
+        return requestSpec(bodyType, request, httpHeaders)
+                .exchange()
+                .cast(TypedClientResponse.class);
+    }
+
+    private boolean isResponseEntity(ResolvableType returnType) {
+        return Mono.class.isAssignableFrom(returnType.getRawClass())
+                && ResponseEntity.class.isAssignableFrom(returnType.getGeneric(0).resolve(Object.class));
+    }
+
+    private Function<ReactiveRequest, Publisher<?>> responseEntity(ResolvableType bodyType, ResolvableType entityType) {
+        if (Flux.class.isAssignableFrom(entityType.resolve(Object.class))) {
+            ResolvableType elementType = entityType.getGeneric(0);
+            return request -> exchange(bodyType, request, request.getHttpHeaders())
+                    .flatMap(response -> isError(response.statusCode()) ?
+                            response.bodyToFlux(elementType).then(Mono.<ResponseEntity<?>>empty()) :
+                            Mono.just(new ResponseEntity<>(response.bodyToFlux(elementType), response.headers().asHttpHeaders(), response.statusCode())));
+        }
+        return request -> exchange(bodyType, request, request.getHttpHeaders())
+                .flatMap(response -> response.bodyToMono(entityType)
+                        .map(body -> new ResponseEntity<>(body, response.headers().asHttpHeaders(), response.statusCode()))
+                        .defaultIfEmpty(new ResponseEntity<>(response.headers().asHttpHeaders(), response.statusCode())));
+    }
+
+    /**
+     * The body of an error response is decoded to its exception right away, instead of an entity with a failing body.
+     */
+    private boolean isError(HttpStatus status) {
+        return status.is4xxClientError() || status.is5xxServerError();
+    }
+
+    private boolean isServerSentEvents(ResolvableType returnType) {
+        return Flux.class.isAssignableFrom(returnType.getRawClass())
+                && ServerSentEvent.class.isAssignableFrom(returnType.getGeneric(0).resolve(Object.class));
+    }
+
+    private Function<ReactiveRequest, Publisher<?>> serverSentEvents(ResolvableType bodyType, ResolvableType eventType) {
+        return request -> Flux.defer(() -> {
+            EventStreamState state = new EventStreamState();
+            return Flux.defer(() -> exchange(bodyType, request, state.httpHeaders(request.getHttpHeaders())))
+                    .flatMap(response -> response.<ServerSentEvent<?>>bodyToFlux(eventType))
+                    .doOnNext(state::update)
+                    .retryWhen(errors -> errors.concatMap(error -> EventStreamState.isReconnectable(error) ?
+                            Mono.delay(state.retry) :
+                            Mono.<Long>error(error)));
+        });
+    }
+
     private Function<WebClient.ResponseSpec, Publisher<?>> responseExtractor(ResolvableType returnType) {
         if (Mono.class.isAssignableFrom(returnType.getRawClass())) {
             return responseSpec -> responseSpec.bodyToMono(returnType.getGeneric(0).getRawClass());
         } else if (Flux.class.isAssignableFrom(returnType.getRawClass())) {
             return responseSpec -> responseSpec.bodyToFlux(returnType.getGeneric(0).getRawClass());
-        } else if(void.class.isAssignableFrom(returnType.getRawClass())) {
-            return responseSpec -> null;
         }
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Last event id and reconnection delay of one subscription to an event stream.
+     */
+    private static class EventStreamState {
+        private static final String LAST_EVENT_ID = "Last-Event-ID";
+        private static final Duration DEFAULT_RETRY = Duration.ofMillis(3000);
+
+        private volatile String lastEventId;
+        private volatile Duration retry = DEFAULT_RETRY;
+
+        HttpHeaders httpHeaders(HttpHeaders requestHeaders) {
+            HttpHeaders httpHeaders = new HttpHeaders();
+            httpHeaders.putAll(requestHeaders);
+            if (httpHeaders.getAccept().isEmpty()) {
+                httpHeaders.setAccept(Collections.singletonList(MediaType.TEXT_EVENT_STREAM));
+            }
+            if (lastEventId != null) {
+                httpHeaders.set(LAST_EVENT_ID, lastEventId);
+            }
+            return httpHeaders;
+        }
+
+        void update(ServerSentEvent<?> event) {
+            if (event.id() != null) {
+                lastEventId = event.id();
+            }
+            if (event.retry() != null) {
+                retry = event.retry();
+            }
+        }
+
+        static boolean isReconnectable(Throwable error) {
+            for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException || cause instanceof ReactiveClientTimeoutException) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private BodyInserter<?, ? super ClientHttpRequest> toBodyInserter(ResolvableType bodyType, Object body) {
         if (bodyType == null) {
             return BodyInserters.empty();
+        } else if (FormBody.class == bodyType.getRawClass()) {
+            return FormBodyInserter.fromForm((FormBody) body);
+        } else if (MultipartBody.class == bodyType.getRawClass()) {
+            return MultipartBodyInserter.fromParts((MultipartBody) body);
         } else if (Publisher.class.isAssignableFrom(bodyType.getRawClass())) { //
             return BodyInserters.fromPublisher(Publisher.class.cast(body), bodyType.getGeneric(0));
         } else {
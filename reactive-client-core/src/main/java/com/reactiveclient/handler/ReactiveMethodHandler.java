@@ -2,4 +2,10 @@ package com.reactiveclient.handler;
 
 public interface ReactiveMethodHandler {
     Object invoke(Object[] args);
+
+    /**
+     * Releases the resources of the handler when its client is closed.
+     */
+    default void close() {
+    }
 }
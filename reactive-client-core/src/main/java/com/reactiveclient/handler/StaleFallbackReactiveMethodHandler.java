@@ -0,0 +1,117 @@
+package com.reactiveclient.handler;
+
+import com.reactiveclient.metadata.StaleFallbackPolicy;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves the last response received for the same arguments while it is fresh, while it is revalidated
+ * in the background, or when the call fails (including when it is rejected by a limiter).
+ */
+public class StaleFallbackReactiveMethodHandler implements ReactiveMethodHandler {
+
+    private final ReactiveMethodHandler delegate;
+    private final long maxAge;
+    private final long staleWhileRevalidate;
+    private final long staleIfError;
+    private final Map<ArgumentsKey, Entry> entries;
+
+    public StaleFallbackReactiveMethodHandler(ReactiveMethodHandler delegate, StaleFallbackPolicy policy) {
+        this.delegate = delegate;
+        this.maxAge = TimeUnit.MILLISECONDS.toNanos(policy.getMaxAge());
+        this.staleWhileRevalidate = TimeUnit.MILLISECONDS.toNanos(policy.getStaleWhileRevalidate());
+        this.staleIfError = TimeUnit.MILLISECONDS.toNanos(policy.getStaleIfError());
+        int maxEntries = policy.getMaxEntries();
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<ArgumentsKey, Entry>(16, 0.75f, true) {
+            @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+            protected boolean removeEldestEntry(Map.Entry<ArgumentsKey, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    @Override
+    public Object invoke(Object[] args) {
+        ArgumentsKey key = new ArgumentsKey(args);
+        return Mono.defer(() -> {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                long age = entry.age();
+                if (age <= maxAge) {
+                    return Mono.just(entry.value);
+                }
+                if (age <= staleWhileRevalidate) {
+                    revalidate(key, args, entry);
+                    return Mono.just(entry.value);
+                }
+            }
+            return call(key, args)
+                    .onErrorResume(error -> {
+                        Entry stale = entries.get(key);
+                        return stale != null && stale.age() <= staleIfError ? Mono.just(stale.value) : Mono.error(error);
+                    });
+        });
+    }
+
+    private void revalidate(ArgumentsKey key, Object[] args, Entry entry) {
+        if (entry.revalidating.compareAndSet(false, true)) {
+            call(key, args)
+                    .doFinally(signal -> entry.revalidating.set(false))
+                    .subscribe(value -> {}, error -> {});
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Object> call(ArgumentsKey key, Object[] args) {
+        return ((Mono<Object>) delegate.invoke(args))
+                .doOnNext(value -> entries.put(key, new Entry(value)));
+    }
+
+    /**
+     * Compares the arguments deeply, so array arguments with the same content share their entry.
+     */
+    private static class ArgumentsKey {
+        private final Object[] args;
+        private final int hashCode;
+
+        private ArgumentsKey(Object[] args) {
+            this.args = args == null ? new Object[0] : args.clone();
+            this.hashCode = Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ArgumentsKey && Arrays.deepEquals(args, ((ArgumentsKey) other).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long receivedAt = System.nanoTime();
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private Entry(Object value) {
+            this.value = value;
+        }
+
+        private long age() {
+            return System.nanoTime() - receivedAt;
+        }
+    }
+}
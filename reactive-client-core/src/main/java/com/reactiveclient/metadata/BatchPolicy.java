@@ -0,0 +1,34 @@
+package com.reactiveclient.metadata;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.net.URI;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class BatchPolicy {
+    private final URI uri;
+    private final String key;
+    private final int maxSize;
+    private final long window;
+
+    private BatchPolicy(URI uri, String key, int maxSize, long window) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be strictly positive");
+        }
+        if (window <= 0) {
+            throw new IllegalArgumentException("window must be strictly positive");
+        }
+        this.uri = uri;
+        this.key = key;
+        this.maxSize = maxSize;
+        this.window = window;
+    }
+
+    public static BatchPolicy of(URI uri, String key, int maxSize, long window) {
+        return new BatchPolicy(uri, key, maxSize, window);
+    }
+}
@@ -2,6 +2,11 @@ package com.reactiveclient.metadata;
 
 import com.reactiveclient.metadata.request.RequestHeader;
 import com.reactiveclient.metadata.request.RequestHeaders;
+import com.reactiveclient.metadata.request.FormBody;
+import com.reactiveclient.metadata.request.MultipartBody;
+import com.reactiveclient.metadata.request.RequestForm;
+import com.reactiveclient.metadata.request.RequestQuery;
+import com.reactiveclient.metadata.request.RequestParts;
 import com.reactiveclient.metadata.request.ReactiveRequestTemplate;
 import lombok.Getter;
 import org.springframework.core.ResolvableType;
@@ -14,7 +19,9 @@ import org.springframework.web.util.UriBuilder;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Getter
@@ -23,17 +30,38 @@ public class MethodMetadata {
     private ResolvableType responseType;
     private ResolvableType bodyType;
     private ReactiveRequestTemplate reactiveRequestTemplate;
+    private Timeouts timeouts;
+    private RateLimitPolicy clientRateLimit;
+    private RateLimitPolicy rateLimit;
+    private BatchPolicy batch;
+    private StaleFallbackPolicy staleFallback;
+    private String priority;
 
     private MethodMetadata(Builder builder) {
         targetMethod = builder.targetMethod;
         responseType = builder.returnType;
-        bodyType = builder.bodyType;
+        if (!builder.partIndexToName.isEmpty()) {
+            bodyType = ResolvableType.forClass(MultipartBody.class);
+        } else if (!builder.formFieldIndexToName.isEmpty()) {
+            bodyType = ResolvableType.forClass(FormBody.class);
+        } else {
+            bodyType = builder.bodyType;
+        }
+        timeouts = builder.timeouts;
+        clientRateLimit = builder.clientRateLimit;
+        rateLimit = builder.rateLimit;
+        batch = builder.batch;
+        staleFallback = builder.staleFallback;
+        priority = builder.priority;
         reactiveRequestTemplate = new ReactiveRequestTemplate(
                 builder.uriBuilder,
                 builder.httpMethod,
                 new RequestHeaders(builder.headers, builder.headerIndexToName),
                 builder.bodyIndex,
-                builder.variableIndexToName);
+                builder.variableIndexToName,
+                new RequestParts(builder.partIndexToName, builder.partIndexToType),
+                new RequestForm(builder.formFieldIndexToName),
+                new RequestQuery(builder.queryMapIndexes, builder.queryObjectIndexToType));
     }
 
     public static Builder newBuilder(URI baseUri) {
@@ -54,11 +82,28 @@ public class MethodMetadata {
         private Integer bodyIndex;
         private ResolvableType returnType;
         private ResolvableType bodyType;
+        private Map<Integer, String> partIndexToName;
+        private Map<Integer, ResolvableType> partIndexToType;
+        private Map<Integer, String> formFieldIndexToName;
+        private List<Integer> queryMapIndexes;
+        private Map<Integer, Class<?>> queryObjectIndexToType;
+        private Timeouts timeouts;
+        private RateLimitPolicy clientRateLimit;
+        private RateLimitPolicy rateLimit;
+        private BatchPolicy batch;
+        private StaleFallbackPolicy staleFallback;
+        private String priority;
 
         private Builder() {
             variableIndexToName = new LinkedMultiValueMap<>();
             headers = new HashMap<>();
             headerIndexToName = new HashMap<>();
+            partIndexToName = new HashMap<>();
+            partIndexToType = new HashMap<>();
+            formFieldIndexToName = new HashMap<>();
+            queryMapIndexes = new ArrayList<>();
+            queryObjectIndexToType = new HashMap<>();
+            timeouts = Timeouts.none();
         }
 
         public Builder(String scheme, String authority) {
@@ -78,6 +123,9 @@ public class MethodMetadata {
             headerIndexToName.putAll(other.getReactiveRequestTemplate().getRequestHeaders().getIndexToName());
             httpMethod = other.getReactiveRequestTemplate().getHttpMethod();
             targetMethod = other.getTargetMethod();
+            timeouts = other.getTimeouts();
+            clientRateLimit = other.getClientRateLimit();
+            priority = other.getPriority();
         }
 
         public Builder addPath(String path) {
@@ -107,6 +155,16 @@ public class MethodMetadata {
             return this;
         }
 
+        public Builder addQueryMap(Integer index) {
+            queryMapIndexes.add(index);
+            return this;
+        }
+
+        public Builder addQueryObject(Integer index, Class<?> type) {
+            queryObjectIndexToType.put(index, type);
+            return this;
+        }
+
         public Builder httpMethod(HttpMethod httpMethod) {
             this.httpMethod = httpMethod;
             return this;
@@ -116,12 +174,65 @@ public class MethodMetadata {
             if (this.bodyType != null && this.bodyIndex != null) {
                 throw new IllegalArgumentException();
             }
+            assertSingleBodyKind(true, partIndexToName.isEmpty(), formFieldIndexToName.isEmpty());
 
             this.bodyIndex = bodyIndex;
             this.bodyType = ResolvableType.forType(bodyType);
             return this;
         }
 
+        public Builder addPart(Integer index, String name, Type partType) {
+            assertSingleBodyKind(bodyIndex == null, true, formFieldIndexToName.isEmpty());
+            partIndexToName.put(index, name);
+            partIndexToType.put(index, ResolvableType.forType(partType));
+            return this;
+        }
+
+        public Builder addFormField(Integer index, String name) {
+            assertSingleBodyKind(bodyIndex == null, partIndexToName.isEmpty(), true);
+            formFieldIndexToName.put(index, name);
+            return this;
+        }
+
+        private void assertSingleBodyKind(boolean noBody, boolean noParts, boolean noFormFields) {
+            if (!noBody || !noParts || !noFormFields) {
+                throw new IllegalArgumentException("A method can only have one of a body, parts or form fields");
+            }
+        }
+
+        public Builder timeouts(Timeouts timeouts) {
+            this.timeouts = this.timeouts.override(timeouts);
+            return this;
+        }
+
+        public Builder clientRateLimit(RateLimitPolicy clientRateLimit) {
+            this.clientRateLimit = clientRateLimit;
+            return this;
+        }
+
+        public Builder rateLimit(RateLimitPolicy rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        public Builder batch(String path, String key, int maxSize, long window) {
+            URI uri = new DefaultUriBuilderFactory(uriBuilder.build().toString()).builder()
+                    .path(path)
+                    .build();
+            this.batch = BatchPolicy.of(uri, key, maxSize, window);
+            return this;
+        }
+
+        public Builder staleFallback(StaleFallbackPolicy staleFallback) {
+            this.staleFallback = staleFallback;
+            return this;
+        }
+
+        public Builder priority(String priority) {
+            this.priority = priority;
+            return this;
+        }
+
         public Builder targetMethod(Method targetMethod) {
             this.targetMethod = targetMethod;
             this.returnType = ResolvableType.forMethodReturnType(targetMethod);
@@ -1,10 +1,19 @@
 package com.reactiveclient.metadata;
 
+import com.reactiveclient.annotation.Batch;
+import com.reactiveclient.annotation.Priority;
+import com.reactiveclient.annotation.RateLimit;
+import com.reactiveclient.annotation.StaleFallback;
+import com.reactiveclient.annotation.Timeout;
 import com.reactiveclient.metadata.annotation.AnnotatedParameterProcessor;
+import com.reactiveclient.metadata.annotation.FormFieldParameterProcessor;
 import com.reactiveclient.metadata.annotation.PathVariableParameterProcessor;
+import com.reactiveclient.metadata.annotation.QueryObjectParameterProcessor;
 import com.reactiveclient.metadata.annotation.RequestBodyParameterProcessor;
 import com.reactiveclient.metadata.annotation.RequestHeaderParameterProcessor;
 import com.reactiveclient.metadata.annotation.RequestParamParameterProcessor;
+import com.reactiveclient.metadata.annotation.RequestPartParameterProcessor;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.StandardAnnotationMetadata;
@@ -14,8 +23,10 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -36,7 +47,10 @@ public class MethodMetadataFactory {
                 new PathVariableParameterProcessor(),
                 new RequestParamParameterProcessor(),
                 new RequestHeaderParameterProcessor(),
-                new RequestBodyParameterProcessor())
+                new RequestBodyParameterProcessor(),
+                new RequestPartParameterProcessor(),
+                new FormFieldParameterProcessor(),
+                new QueryObjectParameterProcessor())
                 .collect(Collectors.toMap(AnnotatedParameterProcessor::getAnnotationType, Function.identity()));
     }
 
@@ -65,9 +79,15 @@ public class MethodMetadataFactory {
         if (target.getInterfaces().length == 1) {
             AnnotationMetadata annotationMetadata = new StandardAnnotationMetadata(target.getInterfaces()[0]);
             processAnnotationOnClass(annotationMetadata, rootRequestTemplate);
+            processTimeoutAnnotation(target.getInterfaces()[0], rootRequestTemplate);
+            processClientRateLimitAnnotation(target.getInterfaces()[0], rootRequestTemplate);
+            processPriorityAnnotation(target.getInterfaces()[0], rootRequestTemplate);
         }
         AnnotationMetadata annotationMetadata = new StandardAnnotationMetadata(target);
         processAnnotationOnClass(annotationMetadata, rootRequestTemplate);
+        processTimeoutAnnotation(target, rootRequestTemplate);
+        processClientRateLimitAnnotation(target, rootRequestTemplate);
+        processPriorityAnnotation(target, rootRequestTemplate);
 
         return rootRequestTemplate.build();
     }
@@ -76,7 +96,12 @@ public class MethodMetadataFactory {
         AnnotatedTypeMetadata methodMetadata = new StandardMethodMetadata(method);
         Parameter[] parameters = method.getParameters();
 
+        processBatchAnnotation(method, requestTemplateBuilder);
         processRequestMappingAnnotation(methodMetadata, requestTemplateBuilder);
+        processTimeoutAnnotation(method, requestTemplateBuilder);
+        processRateLimitAnnotation(method, requestTemplateBuilder);
+        processStaleFallbackAnnotation(method, requestTemplateBuilder);
+        processPriorityAnnotation(method, requestTemplateBuilder);
 
         for (int i = 0; i < parameters.length; i++) {
             Parameter parameter = parameters[i];
@@ -113,6 +138,51 @@ public class MethodMetadataFactory {
         }
     }
 
+    void processTimeoutAnnotation(AnnotatedElement annotatedElement, MethodMetadata.Builder requestTemplateBuilder) {
+        Timeout timeout = AnnotationUtils.getAnnotation(annotatedElement, Timeout.class);
+        if (timeout != null) {
+            requestTemplateBuilder.timeouts(Timeouts.of(Timeouts.NONE, timeout.response(), timeout.readIdle(), timeout.deadline()));
+        }
+    }
+
+    void processClientRateLimitAnnotation(Class<?> target, MethodMetadata.Builder requestTemplateBuilder) {
+        RateLimit rateLimit = AnnotationUtils.getAnnotation(target, RateLimit.class);
+        if (rateLimit != null) {
+            requestTemplateBuilder.clientRateLimit(RateLimitPolicy.of(rateLimit.permitsPerSecond(), rateLimit.burst(), rateLimit.maxWait()));
+        }
+    }
+
+    void processRateLimitAnnotation(Method method, MethodMetadata.Builder requestTemplateBuilder) {
+        RateLimit rateLimit = AnnotationUtils.getAnnotation(method, RateLimit.class);
+        if (rateLimit != null) {
+            requestTemplateBuilder.rateLimit(RateLimitPolicy.of(rateLimit.permitsPerSecond(), rateLimit.burst(), rateLimit.maxWait()));
+        }
+    }
+
+    void processBatchAnnotation(Method method, MethodMetadata.Builder requestTemplateBuilder) {
+        Batch batch = AnnotationUtils.getAnnotation(method, Batch.class);
+        if (batch != null) {
+            Assert.isTrue(Mono.class.isAssignableFrom(method.getReturnType()), () -> "Invalid batch method " + method.getName() + ": only Mono return type is supported");
+            Assert.isTrue(method.getParameterCount() == 1, () -> "Invalid batch method " + method.getName() + ": exactly one parameter is required");
+            requestTemplateBuilder.batch(batch.path(), batch.key(), batch.maxSize(), batch.window());
+        }
+    }
+
+    void processStaleFallbackAnnotation(Method method, MethodMetadata.Builder requestTemplateBuilder) {
+        StaleFallback staleFallback = AnnotationUtils.getAnnotation(method, StaleFallback.class);
+        if (staleFallback != null) {
+            Assert.isTrue(Mono.class.isAssignableFrom(method.getReturnType()), () -> "Invalid stale fallback method " + method.getName() + ": only Mono return type is supported");
+            requestTemplateBuilder.staleFallback(StaleFallbackPolicy.of(staleFallback.maxAge(), staleFallback.staleWhileRevalidate(), staleFallback.staleIfError(), staleFallback.maxEntries()));
+        }
+    }
+
+    void processPriorityAnnotation(AnnotatedElement annotatedElement, MethodMetadata.Builder requestTemplateBuilder) {
+        Priority priority = AnnotationUtils.getAnnotation(annotatedElement, Priority.class);
+        if (priority != null) {
+            requestTemplateBuilder.priority(priority.value());
+        }
+    }
+
     void parsePath(Map<String, Object> requestMappingAttributes, MethodMetadata.Builder requestTemplateBuilder) {
         String[] values = (String[]) requestMappingAttributes.get("value");
         Assert.isTrue(values.length <= 1, "Too many values on annotation RequestMapping");
@@ -0,0 +1,30 @@
+package com.reactiveclient.metadata;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class RateLimitPolicy {
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long maxWait;
+
+    private RateLimitPolicy(double permitsPerSecond, int burst, long maxWait) {
+        if (permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be strictly positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst must be strictly positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.maxWait = maxWait;
+    }
+
+    public static RateLimitPolicy of(double permitsPerSecond, int burst, long maxWait) {
+        return new RateLimitPolicy(permitsPerSecond, burst, maxWait);
+    }
+}
@@ -0,0 +1,35 @@
+package com.reactiveclient.metadata;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class StaleFallbackPolicy {
+    private final long maxAge;
+    private final long staleWhileRevalidate;
+    private final long staleIfError;
+    private final int maxEntries;
+
+    private StaleFallbackPolicy(long maxAge, long staleWhileRevalidate, long staleIfError, int maxEntries) {
+        if (maxAge < 0 || staleWhileRevalidate < 0 || staleIfError < 0) {
+            throw new IllegalArgumentException("maxAge, staleWhileRevalidate and staleIfError must be positive");
+        }
+        if (staleWhileRevalidate != 0 && staleWhileRevalidate < maxAge || staleIfError != 0 && staleIfError < maxAge) {
+            throw new IllegalArgumentException("staleWhileRevalidate and staleIfError must be 0 or at least maxAge");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be strictly positive");
+        }
+        this.maxAge = maxAge;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+        this.staleIfError = staleIfError;
+        this.maxEntries = maxEntries;
+    }
+
+    public static StaleFallbackPolicy of(long maxAge, long staleWhileRevalidate, long staleIfError, int maxEntries) {
+        return new StaleFallbackPolicy(maxAge, staleWhileRevalidate, staleIfError, maxEntries);
+    }
+}
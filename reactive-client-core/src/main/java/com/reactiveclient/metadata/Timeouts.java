@@ -0,0 +1,76 @@
+package com.reactiveclient.metadata;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.TimeUnit;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+public class Timeouts {
+    public static final String DEADLINE_HEADER = "X-Request-Timeout";
+    public static final long NONE = -1;
+
+    private static final Timeouts EMPTY = new Timeouts(NONE, NONE, NONE, NONE);
+
+    private final long connect;
+    private final long response;
+    private final long readIdle;
+    private final long deadline;
+
+    private Timeouts(long connect, long response, long readIdle, long deadline) {
+        this.connect = connect;
+        this.response = response;
+        this.readIdle = readIdle;
+        this.deadline = deadline;
+    }
+
+    public static Timeouts none() {
+        return EMPTY;
+    }
+
+    public static Timeouts of(long connect, long response, long readIdle, long deadline) {
+        return new Timeouts(connect, response, readIdle, deadline);
+    }
+
+    public Timeouts override(Timeouts other) {
+        return new Timeouts(pick(connect, other.connect),
+                pick(response, other.response),
+                pick(readIdle, other.readIdle),
+                pick(deadline, other.deadline));
+    }
+
+    public boolean hasConnect() {
+        return connect > 0;
+    }
+
+    public boolean hasResponse() {
+        return response > 0;
+    }
+
+    public boolean hasReadIdle() {
+        return readIdle > 0;
+    }
+
+    public boolean hasDeadline() {
+        return deadline > 0;
+    }
+
+    /**
+     * {@link System#nanoTime()} at which the deadline expires, or {@link #NONE}. The value may be negative,
+     * compare it to {@link #NONE} only.
+     */
+    public long deadlineFromNow() {
+        if (!hasDeadline()) {
+            return NONE;
+        }
+        long deadlineAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline);
+        return deadlineAt != NONE ? deadlineAt : deadlineAt + 1;
+    }
+
+    private static long pick(long current, long override) {
+        return override >= 0 ? override : current;
+    }
+}
@@ -0,0 +1,27 @@
+package com.reactiveclient.metadata.annotation;
+
+import com.reactiveclient.annotation.FormField;
+import com.reactiveclient.metadata.MethodMetadata;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+public class FormFieldParameterProcessor implements AnnotatedParameterProcessor {
+
+	@Override
+	public Class<? extends Annotation> getAnnotationType() {
+		return FormField.class;
+	}
+
+	@Override
+	public void processAnnotation(MethodMetadata.Builder requestTemplateBuilder, Annotation annotation, Integer integer, Type parameterType) {
+		FormField formField = FormField.class.cast(annotation);
+		String name = formField.value();
+		Assert.isTrue(StringUtils.hasText(name), "FormField name can't be empty");
+
+		requestTemplateBuilder.addFormField(integer, name);
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.reactiveclient.metadata.annotation;
+
+import com.reactiveclient.annotation.QueryObject;
+import com.reactiveclient.metadata.MethodMetadata;
+import org.springframework.core.ResolvableType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+public class QueryObjectParameterProcessor implements AnnotatedParameterProcessor {
+
+	@Override
+	public Class<? extends Annotation> getAnnotationType() {
+		return QueryObject.class;
+	}
+
+	@Override
+	public void processAnnotation(MethodMetadata.Builder requestTemplateBuilder, Annotation annotation, Integer integer, Type parameterType) {
+		requestTemplateBuilder.addQueryObject(integer, ResolvableType.forType(parameterType).resolve(Object.class));
+	}
+
+}
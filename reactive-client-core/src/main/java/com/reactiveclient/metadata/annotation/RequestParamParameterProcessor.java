@@ -17,6 +17,7 @@
 package com.reactiveclient.metadata.annotation;
 
 import com.reactiveclient.metadata.MethodMetadata;
+import org.springframework.core.ResolvableType;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
+import java.util.Map;
 
 public class RequestParamParameterProcessor implements AnnotatedParameterProcessor {
 
@@ -36,6 +38,10 @@ public class RequestParamParameterProcessor implements AnnotatedParameterProcess
 	public void processAnnotation(MethodMetadata.Builder requestTemplateBuilder, Annotation annotation, Integer integer, Type parameterType) {
 		RequestParam requestParam = RequestParam.class.cast(annotation);
 		String name = requestParam.value();
+		if (!StringUtils.hasText(name) && Map.class.isAssignableFrom(ResolvableType.forType(parameterType).resolve(Object.class))) {
+			requestTemplateBuilder.addQueryMap(integer);
+			return;
+		}
 		Assert.isTrue(StringUtils.hasText(name), "");
 
 		requestTemplateBuilder.addParameter(integer, name);
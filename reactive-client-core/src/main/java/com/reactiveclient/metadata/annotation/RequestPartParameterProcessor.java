@@ -0,0 +1,27 @@
+package com.reactiveclient.metadata.annotation;
+
+import com.reactiveclient.metadata.MethodMetadata;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestPart;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+public class RequestPartParameterProcessor implements AnnotatedParameterProcessor {
+
+	@Override
+	public Class<? extends Annotation> getAnnotationType() {
+		return RequestPart.class;
+	}
+
+	@Override
+	public void processAnnotation(MethodMetadata.Builder requestTemplateBuilder, Annotation annotation, Integer integer, Type parameterType) {
+		RequestPart requestPart = RequestPart.class.cast(annotation);
+		String name = requestPart.value();
+		Assert.isTrue(StringUtils.hasText(name), "RequestPart name can't be empty");
+
+		requestTemplateBuilder.addPart(integer, name, parameterType);
+	}
+
+}
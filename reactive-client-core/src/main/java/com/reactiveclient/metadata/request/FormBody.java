@@ -0,0 +1,26 @@
+package com.reactiveclient.metadata.request;
+
+import lombok.EqualsAndHashCode;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An {@code application/x-www-form-urlencoded} request body, already encoded.
+ */
+@EqualsAndHashCode
+public class FormBody {
+    private final byte[] content;
+
+    FormBody(byte[] content) {
+        this.content = content;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    @Override
+    public String toString() {
+        return new String(content, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reactiveclient.metadata.request;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.core.ResolvableType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Parts of a {@code multipart/form-data} request, in the order of the method parameters.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class MultipartBody {
+    private final List<Part> parts;
+
+    MultipartBody(List<Part> parts) {
+        this.parts = Collections.unmodifiableList(parts);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static class Part {
+        private final String name;
+        private final Object value;
+        private final ResolvableType type;
+
+        Part(String name, Object value, ResolvableType type) {
+            this.name = name;
+            this.value = value;
+            this.type = type;
+        }
+    }
+}
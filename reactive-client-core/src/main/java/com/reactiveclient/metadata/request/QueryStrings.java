@@ -0,0 +1,39 @@
+package com.reactiveclient.metadata.request;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Helpers shared by the query and form templates, which are both encoded as {@code name=value} pairs.
+ */
+final class QueryStrings {
+
+    private QueryStrings() {
+    }
+
+    static String prefix(String name) {
+        return encode(name) + "=";
+    }
+
+    static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Appends one pair per encoded value, none when there are no values.
+     */
+    static void append(StringBuilder content, String prefix, List<String> encodedValues) {
+        for (String value : encodedValues) {
+            if (content.length() > 0) {
+                content.append('&');
+            }
+            content.append(prefix).append(value);
+        }
+    }
+}
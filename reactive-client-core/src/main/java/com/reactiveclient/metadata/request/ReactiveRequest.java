@@ -29,9 +29,19 @@ public class ReactiveRequest {
     private Map<String, Object> variables;
     @Getter
     private Object body;
+    /**
+     * Encoded query parameters of the Map and query object arguments, appended to the expanded URI.
+     */
+    @Setter
+    @Getter
+    private String query;
 
     public URI expand(){
-        return uriBuilder.build(variables);
+        URI uri = uriBuilder.build(variables);
+        if (query == null) {
+            return uri;
+        }
+        return URI.create(uri.toString() + (uri.getRawQuery() == null ? "?" : "&") + query);
     }
 
     public List<String> header(String header) {
@@ -19,13 +19,17 @@ public class ReactiveRequestTemplate {
     private RequestHeaders requestHeaders;
     private Integer bodyIndex;
     private MultiValueMap<Integer, String> variableIndexToName;
+    private RequestParts requestParts;
+    private RequestForm requestForm;
+    private RequestQuery requestQuery;
 
     public ReactiveRequest apply(Object[] args) {
         return new ReactiveRequest(uriBuilder,
                 httpMethod,
                 requestHeaders.encode(args),
                 nameToVariable(args),
-                buildBody(args));
+                buildBody(args),
+                requestQuery.apply(args));
     }
 
     private Map<String, Object> nameToVariable(Object[] args) {
@@ -38,6 +42,12 @@ public class ReactiveRequestTemplate {
     }
 
     private Object buildBody(Object[] args) {
+        if (!requestParts.isEmpty()) {
+            return requestParts.apply(args);
+        }
+        if (!requestForm.isEmpty()) {
+            return requestForm.apply(args);
+        }
         return bodyIndex != null ?
                 args[bodyIndex] :
                 null;
@@ -0,0 +1,43 @@
+package com.reactiveclient.metadata.request;
+
+import com.reactiveclient.metadata.request.encoding.ParameterEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Template of a form body. The encoded {@code name=} prefix of each field is computed once,
+ * so a call only encodes the values.
+ */
+public class RequestForm {
+    private ParameterEncoder parameterEncoder;
+    private Map<Integer, String> indexToName;
+    private Map<Integer, String> indexToPrefix;
+
+    public RequestForm(Map<Integer, String> indexToName) {
+        this.parameterEncoder = ParameterEncoder.create(true);
+        this.indexToName = unmodifiableMap(new TreeMap<>(indexToName));
+        Map<Integer, String> indexToPrefix = new TreeMap<>();
+        indexToName.forEach((index, name) -> indexToPrefix.put(index, QueryStrings.prefix(name)));
+        this.indexToPrefix = unmodifiableMap(indexToPrefix);
+    }
+
+    public Map<Integer, String> getIndexToName() {
+        return indexToName;
+    }
+
+    public boolean isEmpty() {
+        return indexToName.isEmpty();
+    }
+
+    public FormBody apply(Object[] parameterValues) {
+        StringBuilder content = new StringBuilder();
+        for (Map.Entry<Integer, String> entry : indexToPrefix.entrySet()) {
+            QueryStrings.append(content, entry.getValue(), parameterEncoder.convertToListOfString(parameterValues[entry.getKey()]));
+        }
+        return new FormBody(content.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,42 @@
+package com.reactiveclient.metadata.request;
+
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Collections.unmodifiableMap;
+
+public class RequestParts {
+    private Map<Integer, String> indexToName;
+    private Map<Integer, ResolvableType> indexToType;
+
+    public RequestParts(Map<Integer, String> indexToName, Map<Integer, ResolvableType> indexToType) {
+        this.indexToName = unmodifiableMap(new TreeMap<>(indexToName));
+        this.indexToType = unmodifiableMap(new TreeMap<>(indexToType));
+    }
+
+    public Map<Integer, String> getIndexToName() {
+        return indexToName;
+    }
+
+    public boolean isEmpty() {
+        return indexToName.isEmpty();
+    }
+
+    /**
+     * Builds the parts of the given arguments, skipping the null ones.
+     */
+    public MultipartBody apply(Object[] parameterValues) {
+        List<MultipartBody.Part> parts = new ArrayList<>(indexToName.size());
+        for (Map.Entry<Integer, String> entry : indexToName.entrySet()) {
+            Object value = parameterValues[entry.getKey()];
+            if (value != null) {
+                parts.add(new MultipartBody.Part(entry.getValue(), value, indexToType.get(entry.getKey())));
+            }
+        }
+        return new MultipartBody(parts);
+    }
+}
@@ -0,0 +1,114 @@
+package com.reactiveclient.metadata.request;
+
+import com.reactiveclient.metadata.request.encoding.ParameterEncoder;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Query parameters whose names are only known at call time: the entries of a {@code Map} argument,
+ * or the properties of a query object. The accessors of the query object properties are resolved once,
+ * as method handles, with the encoded {@code name=} prefix of each property.
+ */
+public class RequestQuery {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private ParameterEncoder parameterEncoder;
+    private Map<Integer, QueryArgument> indexToArgument;
+
+    public RequestQuery(List<Integer> mapIndexes, Map<Integer, Class<?>> objectIndexToType) {
+        this.parameterEncoder = ParameterEncoder.create(true);
+        Map<Integer, QueryArgument> indexToArgument = new TreeMap<>();
+        mapIndexes.forEach(index -> indexToArgument.put(index, new MapArgument()));
+        objectIndexToType.forEach((index, type) -> indexToArgument.put(index, new ObjectArgument(type)));
+        this.indexToArgument = Collections.unmodifiableMap(indexToArgument);
+    }
+
+    public boolean isEmpty() {
+        return indexToArgument.isEmpty();
+    }
+
+    /**
+     * Encoded query string of the given arguments, null when it is empty.
+     */
+    public String apply(Object[] parameterValues) {
+        if (indexToArgument.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (Map.Entry<Integer, QueryArgument> entry : indexToArgument.entrySet()) {
+            Object value = parameterValues[entry.getKey()];
+            if (value != null) {
+                entry.getValue().append(query, value);
+            }
+        }
+        return query.length() > 0 ? query.toString() : null;
+    }
+
+    private interface QueryArgument {
+        void append(StringBuilder query, Object value);
+    }
+
+    private class MapArgument implements QueryArgument {
+
+        @Override
+        public void append(StringBuilder query, Object value) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (entry.getKey() != null) {
+                    QueryStrings.append(query, QueryStrings.prefix(entry.getKey().toString()), parameterEncoder.convertToListOfString(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    private class ObjectArgument implements QueryArgument {
+        private final String[] prefixes;
+        private final MethodHandle[] getters;
+
+        ObjectArgument(Class<?> type) {
+            List<String> prefixes = new ArrayList<>();
+            List<MethodHandle> getters = new ArrayList<>();
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(type)) {
+                if (property.getReadMethod() == null || "class".equals(property.getName())) {
+                    continue;
+                }
+                try {
+                    ReflectionUtils.makeAccessible(property.getReadMethod());
+                    getters.add(lookup.unreflect(property.getReadMethod()).asType(GETTER_TYPE));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalArgumentException("Invalid query object " + type.getName() + ": property " + property.getName() + " is not accessible", e);
+                }
+                prefixes.add(QueryStrings.prefix(property.getName()));
+            }
+            this.prefixes = prefixes.toArray(new String[0]);
+            this.getters = getters.toArray(new MethodHandle[0]);
+        }
+
+        @Override
+        public void append(StringBuilder query, Object value) {
+            for (int i = 0; i < getters.length; i++) {
+                Object propertyValue;
+                try {
+                    propertyValue = (Object) getters[i].invokeExact(value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+                if (propertyValue != null) {
+                    QueryStrings.append(query, prefixes[i], parameterEncoder.convertToListOfString(propertyValue));
+                }
+            }
+        }
+    }
+}
@@ -37,6 +37,11 @@ class DefaultParameterEncoder implements ParameterEncoder {
         return encodedParameter;
     }
 
+    @Override
+    public List<String> convertToListOfString(Object value) {
+        return processValue(value);
+    }
+
     List<String> processValue(Object value) {
         if (value == null) {
             return Collections.emptyList();
@@ -10,6 +10,8 @@ public interface ParameterEncoder {
 
     Map<String, List<String>> convertToListOfString(Map<Integer, String> indexToName, Object[] parameterValues);
 
+    List<String> convertToListOfString(Object parameterValue);
+
     static ParameterEncoder create(Boolean urlCompatible) {
         return urlCompatible ? new UrlParameterEncoder() : new DefaultParameterEncoder();
     }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.Batch;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = BatchReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class BatchReactiveClientTests {
+
+    private static final AtomicInteger BATCH_CALLS = new AtomicInteger();
+    private static final AtomicReference<List<String>> LAST_BATCH = new AtomicReference<>();
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void concurrentCalls_sentAsOneBatch() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+        int before = BATCH_CALLS.get();
+
+        StepVerifier.create(Mono.zip(userClient.getUser("1"), userClient.getUser("2"), userClient.getUser("3")))
+                .consumeNextWith(users -> {
+                    assertThat(users.getT1()).isEqualTo(new User("1", "user-1"));
+                    assertThat(users.getT2()).isEqualTo(new User("2", "user-2"));
+                    assertThat(users.getT3()).isEqualTo(new User("3", "user-3"));
+                })
+                .verifyComplete();
+        assertThat(BATCH_CALLS.get() - before)
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void concurrentCalls_splitOnMaxSize() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+        int before = BATCH_CALLS.get();
+
+        StepVerifier.create(Flux.range(0, 5).flatMap(i -> userClient.getUserInPairs(String.valueOf(i))))
+                .expectNextCount(5)
+                .verifyComplete();
+        assertThat(BATCH_CALLS.get() - before)
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void concurrentCalls_splitOnHeaders() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+        int before = BATCH_CALLS.get();
+
+        StepVerifier.create(Mono.zip(userClient.getTenantUser("1", "a"), userClient.getTenantUser("2", "b"), userClient.getTenantUser("3", "a")))
+                .consumeNextWith(users -> {
+                    assertThat(users.getT1()).isEqualTo(new User("1", "a-user-1"));
+                    assertThat(users.getT2()).isEqualTo(new User("2", "b-user-2"));
+                    assertThat(users.getT3()).isEqualTo(new User("3", "a-user-3"));
+                })
+                .verifyComplete();
+        assertThat(BATCH_CALLS.get() - before)
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void cancelledCall_leftOutOfBatch() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+
+        userClient.getUser("cancelled").subscribe().dispose();
+
+        StepVerifier.create(userClient.getUser("1"))
+                .expectNext(new User("1", "user-1"))
+                .verifyComplete();
+        assertThat(LAST_BATCH.get())
+                .containsExactly("1");
+    }
+
+    @Test
+    public void keysConvertedToParameterType() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+
+        StepVerifier.create(Mono.zip(userClient.getUserById(1L), userClient.getUserById(2L)))
+                .consumeNextWith(users -> {
+                    assertThat(users.getT1()).isEqualTo(new User("1", "user-1"));
+                    assertThat(users.getT2()).isEqualTo(new User("2", "user-2"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void closedClient_rejectsCalls() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+
+        ((CloseableClient) userClient).close();
+
+        StepVerifier.create(userClient.getUser("1"))
+                .expectError(RequestRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    public void missingItem_completesEmpty() {
+        UserClient userClient = ReactiveClientBuilder.create(UserClient.class, "http://localhost:" + port);
+
+        StepVerifier.create(userClient.getUser("unknown"))
+                .verifyComplete();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    private static class User {
+        private String id;
+        private String name;
+    }
+
+    private interface UserClient {
+        @Batch(path = "/users/batch", window = 50)
+        @RequestMapping(method = RequestMethod.GET, path = "/users/{id}")
+        Mono<User> getUser(@PathVariable("id") String id);
+
+        @Batch(path = "/users/batch", window = 50)
+        @RequestMapping(method = RequestMethod.GET, path = "/users/{id}")
+        Mono<User> getUserById(@PathVariable("id") Long id);
+
+        @Batch(path = "/users/batch", maxSize = 2, window = 1000)
+        @RequestMapping(method = RequestMethod.GET, path = "/users/{id}")
+        Mono<User> getUserInPairs(@PathVariable("id") String id);
+
+        @Batch(path = "/users/batch", window = 50)
+        @RequestMapping(method = RequestMethod.GET, path = "/users/{id}")
+        Mono<User> getTenantUser(@PathVariable("id") String id, @RequestHeader("X-Tenant") String tenant);
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(BatchReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.POST, path = "/users/batch")
+        public Flux<User> getUsers(@RequestBody List<String> ids, @RequestHeader(name = "X-Tenant", required = false) String tenant) {
+            BATCH_CALLS.incrementAndGet();
+            LAST_BATCH.set(ids);
+            return Flux.fromIterable(ids)
+                    .filter(id -> !"unknown".equals(id))
+                    .map(id -> new User(id, (tenant != null ? tenant + "-" : "") + "user-" + id));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.client.leak.BufferLeakRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = BufferLeakReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class BufferLeakReactiveClientTests {
+
+    @Rule
+    public BufferLeakRule bufferLeakRule = new BufferLeakRule();
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void mono_releasesBuffers() {
+        StepVerifier.create(client().echo("hello"))
+                .expectNext("hello")
+                .verifyComplete();
+        assertThat(bufferLeakRule.getLeakDetector().getTracked())
+                .isPositive();
+    }
+
+    @Test
+    public void error_releasesBuffers() {
+        StepVerifier.create(client().failing())
+                .expectError(HttpServerErrorException.class)
+                .verify();
+    }
+
+    @Test
+    public void cancel_releasesBuffers() {
+        StepVerifier.create(client().numbers().take(10))
+                .expectNextCount(10)
+                .verifyComplete();
+    }
+
+    private LeakClient client() {
+        return ReactiveClientBuilder
+                .builder()
+                .leakDetector(bufferLeakRule.getLeakDetector())
+                .build(LeakClient.class, "http://localhost:" + port);
+    }
+
+    private interface LeakClient {
+        @RequestMapping(method = RequestMethod.POST, path = "/echo")
+        Mono<String> echo(@RequestBody String body);
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failing")
+        Mono<String> failing();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        Flux<Integer> numbers();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(BufferLeakReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.POST, path = "/echo")
+        public Mono<String> echo(@RequestBody String body) {
+            return Mono.just(body);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failing")
+        public ResponseEntity<String> failing() {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("failure");
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        public Flux<Integer> numbers() {
+            return Flux.range(0, 100000);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.reactiveclient;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = ConnectionWarmUpReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class ConnectionWarmUpReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void warmUp() {
+        HelloClient helloClient = ReactiveClientBuilder.create(HelloClient.class, "http://localhost:" + port);
+        assertThat(helloClient)
+                .isInstanceOf(ConnectionWarmUp.class);
+
+        StepVerifier.create(((ConnectionWarmUp) helloClient).warmUp(4))
+                .expectNext(4)
+                .verifyComplete();
+        StepVerifier.create(helloClient.hello())
+                .expectNext("hello")
+                .verifyComplete();
+    }
+
+    @Test
+    public void warmUp_withUnreachableServer() {
+        HelloClient helloClient = ReactiveClientBuilder.create(HelloClient.class, "http://localhost:1");
+
+        StepVerifier.create(((ConnectionWarmUp) helloClient).warmUp(2))
+                .expectNext(0)
+                .verifyComplete();
+    }
+
+    private interface HelloClient {
+        @RequestMapping(method = RequestMethod.GET, path = "/hello")
+        Mono<String> hello();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(ConnectionWarmUpReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello")
+        public Mono<String> hello() {
+            return Mono.just("hello");
+        }
+    }
+}
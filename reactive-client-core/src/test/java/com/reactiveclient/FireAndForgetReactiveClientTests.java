@@ -0,0 +1,108 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.test.StepVerifier;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = FireAndForgetReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class FireAndForgetReactiveClientTests {
+
+    private static final Queue<String> EVENTS = new ConcurrentLinkedQueue<>();
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void void_callsAreSentAndDrainedOnShutdown() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(2)
+                .build();
+        EventClient client = ReactiveClientBuilder
+                .builder()
+                .fireAndForgetDispatcher(dispatcher)
+                .build(EventClient.class, "http://localhost:" + port);
+
+        client.track("first");
+        client.track("second");
+        client.track("third");
+        client.fail();
+
+        StepVerifier.create(dispatcher.shutdown())
+                .verifyComplete();
+
+        assertThat(EVENTS)
+                .containsExactlyInAnyOrder("first", "second", "third");
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(3);
+        assertThat(dispatcher.getFailed())
+                .isEqualTo(1);
+    }
+
+    private interface EventClient {
+        @RequestMapping(method = RequestMethod.POST, path = "/events/{name}")
+        void track(@PathVariable("name") String name);
+
+        @RequestMapping(method = RequestMethod.POST, path = "/failures")
+        void fail();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(FireAndForgetReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @ResponseStatus(HttpStatus.ACCEPTED)
+        @RequestMapping(method = RequestMethod.POST, path = "/events/{name}")
+        public void track(@PathVariable("name") String name) {
+            EVENTS.add(name);
+        }
+
+        @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+        @RequestMapping(method = RequestMethod.POST, path = "/failures")
+        public void fail() {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.FormField;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = FormReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class FormReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void post_formFields() {
+        FormClient client = ReactiveClientBuilder
+                .builder()
+                .build(FormClient.class, "http://localhost:" + port);
+
+        StepVerifier.create(client.login("jean luc", "p@ss&word", asList("read", "write")))
+                .expectNext("application/x-www-form-urlencoded;charset=UTF-8 username=jean+luc&password=p%40ss%26word&scope=read&scope=write")
+                .verifyComplete();
+    }
+
+    private interface FormClient {
+        @RequestMapping(method = RequestMethod.POST, path = "/login")
+        Mono<String> login(@FormField("username") String username, @FormField("password") String password, @FormField("scope") List<String> scopes);
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(FormReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.POST, path = "/login")
+        public Mono<String> login(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, @RequestBody Mono<String> body) {
+            return body.map(content -> contentType + " " + content);
+        }
+    }
+}
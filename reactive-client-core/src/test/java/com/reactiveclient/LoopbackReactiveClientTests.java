@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.Timeout;
+import com.reactiveclient.client.loopback.LoopbackClientHttpConnector;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+public class LoopbackReactiveClientTests {
+
+    private final LoopbackClient client = ReactiveClientBuilder
+            .builder()
+            .connector(LoopbackClientHttpConnector.of(routes()))
+            .build(LoopbackClient.class, "http://loopback");
+
+    @Test
+    public void mono() {
+        StepVerifier.create(client.hello("world"))
+                .expectNext("hello world")
+                .verifyComplete();
+    }
+
+    @Test
+    public void requestBody() {
+        StepVerifier.create(client.echo(Mono.just("ping")))
+                .expectNext("ping")
+                .verifyComplete();
+    }
+
+    @Test
+    public void flux() {
+        StepVerifier.create(client.numbers())
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void errorDecoder() {
+        StepVerifier.create(client.failing())
+                .consumeErrorWith(throwable -> assertThat(throwable)
+                        .isInstanceOf(HttpServerErrorException.class)
+                        .extracting("statusCode", "message")
+                        .containsExactly(HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.INTERNAL_SERVER_ERROR.value() + " boom"))
+                .verify();
+    }
+
+    @Test
+    public void responseTimeout() {
+        StepVerifier.create(client.slow())
+                .expectError(ReactiveClientTimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private static RouterFunction<ServerResponse> routes() {
+        return route(GET("/hello/{name}"), request -> ServerResponse.ok().syncBody("hello " + request.pathVariable("name")))
+                .andRoute(POST("/echo"), request -> ServerResponse.ok().body(request.bodyToMono(String.class), String.class))
+                .andRoute(GET("/numbers"), request -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(Flux.just(1, 2, 3), Integer.class))
+                .andRoute(GET("/failing"), request -> ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).syncBody("boom"))
+                .andRoute(GET("/slow"), request -> Mono.delay(Duration.ofMillis(1000))
+                        .then(ServerResponse.ok().syncBody("slow")));
+    }
+
+    private interface LoopbackClient {
+        @RequestMapping(method = RequestMethod.GET, path = "/hello/{name}")
+        Mono<String> hello(@PathVariable("name") String name);
+
+        @RequestMapping(method = RequestMethod.POST, path = "/echo")
+        Mono<String> echo(@RequestBody Mono<String> body);
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        Flux<Integer> numbers();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failing")
+        Mono<String> failing();
+
+        @Timeout(response = 100)
+        @RequestMapping(method = RequestMethod.GET, path = "/slow")
+        Mono<String> slow();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = MultipartReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class MultipartReactiveClientTests {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void upload_fileAndFields() throws IOException {
+        Path file = temporaryFolder.newFile("upload.txt").toPath();
+        Files.write(file, "file content".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(client().upload(file, "a description", new Metadata("report", 3)))
+                .assertNext(body -> {
+                    assertThat(body)
+                            .startsWith("multipart/form-data;boundary=")
+                            .contains("Content-Disposition: form-data; name=\"file\"; filename=\"upload.txt\"\r\nContent-Type: text/plain\r\n\r\nfile content\r\n")
+                            .contains("Content-Disposition: form-data; name=\"description\"\r\nContent-Type: text/plain;charset=UTF-8\r\n\r\na description\r\n")
+                            .contains("Content-Disposition: form-data; name=\"metadata\"\r\nContent-Type: application/json\r\n\r\n{\"name\":\"report\",\"version\":3}\r\n");
+                    String boundary = body.substring(body.indexOf("boundary=") + "boundary=".length(), body.indexOf('\n'));
+                    assertThat(body)
+                            .endsWith("--" + boundary + "--\r\n");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void upload_streamOfBuffers() {
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        Flux<DataBuffer> content = Flux.range(0, 3)
+                .map(i -> bufferFactory.wrap(("chunk" + i).getBytes(StandardCharsets.UTF_8)));
+
+        StepVerifier.create(client().stream(content))
+                .assertNext(body -> assertThat(body)
+                        .contains("Content-Disposition: form-data; name=\"data\"; filename=\"data\"\r\nContent-Type: application/octet-stream\r\n\r\nchunk0chunk1chunk2\r\n"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void upload_filenameLineBreaksAreEncoded() {
+        Resource resource = new ByteArrayResource("content".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public String getFilename() {
+                return "evil\"\r\nX-Injected: true.txt";
+            }
+        };
+
+        StepVerifier.create(client().resource(resource))
+                .assertNext(body -> assertThat(body)
+                        .contains("Content-Disposition: form-data; name=\"file\"; filename=\"evil%22%0D%0AX-Injected: true.txt\"\r\nContent-Type: text/plain\r\n\r\ncontent\r\n")
+                        .doesNotContain("\r\nX-Injected"))
+                .verifyComplete();
+    }
+
+    private MultipartClient client() {
+        return ReactiveClientBuilder
+                .builder()
+                .build(MultipartClient.class, "http://localhost:" + port);
+    }
+
+    private interface MultipartClient {
+        @RequestMapping(method = RequestMethod.POST, path = "/upload")
+        Mono<String> upload(@RequestPart("file") Path file, @RequestPart("description") String description, @RequestPart("metadata") Metadata metadata);
+
+        @RequestMapping(method = RequestMethod.POST, path = "/upload")
+        Mono<String> stream(@RequestPart("data") Flux<DataBuffer> data);
+
+        @RequestMapping(method = RequestMethod.POST, path = "/upload")
+        Mono<String> resource(@RequestPart("file") Resource file);
+    }
+
+    public static class Metadata {
+        public String name;
+        public int version;
+
+        public Metadata() {
+        }
+
+        Metadata(String name, int version) {
+            this.name = name;
+            this.version = version;
+        }
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(MultipartReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.POST, path = "/upload")
+        public Mono<String> upload(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, @RequestBody Mono<String> body) {
+            return body.map(content -> contentType + "\n" + content);
+        }
+    }
+}
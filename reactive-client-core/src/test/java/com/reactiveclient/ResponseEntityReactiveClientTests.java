@@ -0,0 +1,163 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.reactiveclient;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = ResponseEntityReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class ResponseEntityReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void responseEntity() {
+        Mono<ResponseEntity<Hello>> hello = HelloClient.create("http://localhost:" + port).hello();
+        StepVerifier.create(hello)
+                .consumeNextWith(entity -> {
+                    assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.OK);
+                    assertThat(entity.getHeaders().getETag()).isEqualTo("\"v1\"");
+                    assertThat(entity.getBody()).isEqualTo(new Hello("hello"));
+                    assertThatThrownBy(() -> entity.getHeaders().add("X-Test", "test"))
+                            .isInstanceOf(UnsupportedOperationException.class);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void responseEntity_withoutBody() {
+        Mono<ResponseEntity<Void>> noContent = HelloClient.create("http://localhost:" + port).noContent();
+        StepVerifier.create(noContent)
+                .consumeNextWith(entity -> {
+                    assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+                    assertThat(entity.getHeaders().getFirst("X-Total-Count")).isEqualTo("0");
+                    assertThat(entity.getBody()).isNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void responseEntity_withFlux() {
+        Mono<ResponseEntity<Flux<Hello>>> hellos = HelloClient.create("http://localhost:" + port).hellos();
+        StepVerifier.create(hellos.flatMapMany(entity -> {
+            assertThat(entity.getHeaders().getFirst("X-Total-Count")).isEqualTo("2");
+            return entity.getBody();
+        }))
+                .expectNext(new Hello("hello"), new Hello("world"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void responseEntity_withFluxAndErrorStatus() {
+        Mono<ResponseEntity<Flux<Hello>>> hellos = HelloClient.create("http://localhost:" + port).failingHellos();
+        StepVerifier.create(hellos)
+                .expectError(HttpServerErrorException.class)
+                .verify();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    private static class Hello {
+        private String message;
+    }
+
+    private interface HelloClient {
+        static HelloClient create(String url) {
+            return ReactiveClientBuilder
+                    .builder()
+                    .build(HelloClient.class, url);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello")
+        Mono<ResponseEntity<Hello>> hello();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/noContent")
+        Mono<ResponseEntity<Void>> noContent();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hellos")
+        Mono<ResponseEntity<Flux<Hello>>> hellos();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failingHellos")
+        Mono<ResponseEntity<Flux<Hello>>> failingHellos();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(ResponseEntityReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello")
+        public ResponseEntity<Hello> hello() {
+            return ResponseEntity.ok()
+                    .eTag("v1")
+                    .body(new Hello("hello"));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/noContent")
+        public ResponseEntity<Void> noContent() {
+            return ResponseEntity.noContent()
+                    .header("X-Total-Count", "0")
+                    .build();
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hellos")
+        public ResponseEntity<Flux<Hello>> hellos() {
+            return ResponseEntity.ok()
+                    .header("X-Total-Count", "2")
+                    .body(Flux.just(new Hello("hello"), new Hello("world")));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failingHellos")
+        public ResponseEntity<Flux<Hello>> failingHellos() {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Flux.just(new Hello("hello")));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = ReturnTypeReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class ReturnTypeReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    private ReturnTypeClient client;
+
+    @Before
+    public void setUp() {
+        client = ReactiveClientBuilder
+                .builder()
+                .build(ReturnTypeClient.class, "http://localhost:" + port);
+    }
+
+    @Test
+    public void completableFuture() throws Exception {
+        assertThat(client.future("world").get(5, TimeUnit.SECONDS))
+                .isEqualTo("hello world");
+    }
+
+    @Test
+    public void single() {
+        assertThat(client.single("world").blockingGet())
+                .isEqualTo("hello world");
+    }
+
+    @Test
+    public void flowable() {
+        assertThat(client.flowable().toList().blockingGet())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void completable() {
+        assertThat(client.completable().blockingAwait(5, TimeUnit.SECONDS))
+                .isTrue();
+    }
+
+    @Test
+    public void publisher() {
+        StepVerifier.create(client.publisher())
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void unsupportedReturnType() {
+        assertThatThrownBy(() -> ReactiveClientBuilder
+                .builder()
+                .build(UnsupportedClient.class, "http://localhost:" + port))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private interface ReturnTypeClient {
+        @RequestMapping(method = RequestMethod.GET, path = "/hello/{name}")
+        CompletableFuture<String> future(@PathVariable("name") String name);
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello/{name}")
+        Single<String> single(@PathVariable("name") String name);
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        Flowable<Integer> flowable();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        Publisher<Integer> publisher();
+
+        @RequestMapping(method = RequestMethod.POST, path = "/ping")
+        Completable completable();
+    }
+
+    private interface UnsupportedClient {
+        @RequestMapping(method = RequestMethod.GET, path = "/hello/{name}")
+        String blocking(@PathVariable("name") String name);
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(ReturnTypeReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello/{name}")
+        public Mono<String> hello(@PathVariable("name") String name) {
+            return Mono.just("hello " + name);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/numbers")
+        public Flux<Integer> numbers() {
+            return Flux.just(1, 2, 3);
+        }
+
+        @RequestMapping(method = RequestMethod.POST, path = "/ping")
+        public Mono<Void> ping() {
+            return Mono.empty();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.Timeout;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = ServerSentEventReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class ServerSentEventReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void serverSentEvents() {
+        Flux<ServerSentEvent<String>> events = EventClient.create("http://localhost:" + port).events();
+        StepVerifier.create(events)
+                .consumeNextWith(event -> {
+                    assertThat(event.id()).isEqualTo("1");
+                    assertThat(event.event()).isEqualTo("tick");
+                    assertThat(event.data()).isEqualTo("event-1");
+                })
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    public void serverSentEvents_resumeFromLastEventId() {
+        Flux<ServerSentEvent<String>> events = EventClient.create("http://localhost:" + port).stalledEvents();
+        StepVerifier.create(events.map(ServerSentEvent::data).take(4))
+                .expectNext("event-1", "event-2", "event-3", "event-4")
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private interface EventClient {
+        static EventClient create(String url) {
+            return ReactiveClientBuilder
+                    .builder()
+                    .build(EventClient.class, url);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/events")
+        Flux<ServerSentEvent<String>> events();
+
+        @Timeout(readIdle = 300)
+        @RequestMapping(method = RequestMethod.GET, path = "/stalledEvents")
+        Flux<ServerSentEvent<String>> stalledEvents();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(ServerSentEventReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/events")
+        public Flux<ServerSentEvent<String>> events() {
+            return Flux.range(1, 3)
+                    .map(Application::event);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/stalledEvents")
+        public Flux<ServerSentEvent<String>> stalledEvents(@RequestHeader(value = "Last-Event-ID", required = false) Integer lastEventId) {
+            int start = lastEventId == null ? 1 : lastEventId + 1;
+            return Flux.range(start, 2)
+                    .map(Application::event)
+                    .concatWith(Flux.never());
+        }
+
+        private static ServerSentEvent<String> event(int id) {
+            return ServerSentEvent.<String>builder()
+                    .id(String.valueOf(id))
+                    .event("tick")
+                    .data("event-" + id)
+                    .retry(Duration.ofMillis(100))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.StaleFallback;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = StaleFallbackReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class StaleFallbackReactiveClientTests {
+
+    private static final Map<String, AtomicInteger> CALLS = new ConcurrentHashMap<>();
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void maxAge_servesWithoutCalling() {
+        StaleClient client = StaleClient.create("http://localhost:" + port);
+
+        StepVerifier.create(client.fresh("a")).expectNext("a-1").verifyComplete();
+        StepVerifier.create(client.fresh("a")).expectNext("a-1").verifyComplete();
+        StepVerifier.create(client.fresh("b")).expectNext("b-1").verifyComplete();
+
+        assertThat(CALLS.get("fresh-a").get()).isEqualTo(1);
+    }
+
+    @Test
+    public void maxAge_arrayArgumentsComparedByContent() {
+        StaleClient client = StaleClient.create("http://localhost:" + port);
+
+        StepVerifier.create(client.freshArray(new String[]{"e", "f"})).expectNext("e,f-1").verifyComplete();
+        StepVerifier.create(client.freshArray(new String[]{"e", "f"})).expectNext("e,f-1").verifyComplete();
+
+        assertThat(CALLS.get("fresh-e,f").get()).isEqualTo(1);
+    }
+
+    @Test
+    public void staleWhileRevalidate_servesStaleAndRefreshes() {
+        StaleClient client = StaleClient.create("http://localhost:" + port);
+
+        StepVerifier.create(client.revalidated("c")).expectNext("c-1").verifyComplete();
+        StepVerifier.create(client.revalidated("c")).expectNext("c-1").verifyComplete();
+        StepVerifier.create(Mono.delay(Duration.ofMillis(500)).then(client.revalidated("c")))
+                .expectNext("c-2")
+                .verifyComplete();
+    }
+
+    @Test
+    public void staleIfError_servesLastResponseOnFailure() {
+        StaleClient client = StaleClient.create("http://localhost:" + port);
+
+        StepVerifier.create(client.fallback("d")).expectNext("d-1").verifyComplete();
+        StepVerifier.create(client.fallback("d")).expectNext("d-1").verifyComplete();
+        assertThat(CALLS.get("fallback-d").get()).isEqualTo(2);
+    }
+
+    @Test
+    public void staleIfError_propagatesErrorWithoutResponse() {
+        StaleClient client = StaleClient.create("http://localhost:" + port);
+
+        StepVerifier.create(client.failing())
+                .expectError()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    private interface StaleClient {
+        static StaleClient create(String url) {
+            return ReactiveClientBuilder
+                    .builder()
+                    .build(StaleClient.class, url);
+        }
+
+        @StaleFallback(maxAge = 60000)
+        @RequestMapping(method = RequestMethod.GET, path = "/fresh/{id}")
+        Mono<String> fresh(@PathVariable("id") String id);
+
+        @StaleFallback(maxAge = 60000)
+        @RequestMapping(method = RequestMethod.GET, path = "/fresh")
+        Mono<String> freshArray(@RequestParam("ids") String[] ids);
+
+        @StaleFallback(staleWhileRevalidate = 60000)
+        @RequestMapping(method = RequestMethod.GET, path = "/revalidated/{id}")
+        Mono<String> revalidated(@PathVariable("id") String id);
+
+        @StaleFallback
+        @RequestMapping(method = RequestMethod.GET, path = "/fallback/{id}")
+        Mono<String> fallback(@PathVariable("id") String id);
+
+        @StaleFallback
+        @RequestMapping(method = RequestMethod.GET, path = "/failing")
+        Mono<String> failing();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(StaleFallbackReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/fresh/{id}")
+        public Mono<String> fresh(@PathVariable("id") String id) {
+            return Mono.just(id + "-" + count("fresh-" + id));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/fresh")
+        public Mono<String> freshArray(@RequestParam("ids") String[] ids) {
+            String id = String.join(",", ids);
+            return Mono.just(id + "-" + count("fresh-" + id));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/revalidated/{id}")
+        public Mono<String> revalidated(@PathVariable("id") String id) {
+            return Mono.just(id + "-" + count("revalidated-" + id));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/fallback/{id}")
+        public Mono<ResponseEntity<String>> fallback(@PathVariable("id") String id) {
+            int call = count("fallback-" + id);
+            return Mono.just(call == 1
+                    ? ResponseEntity.ok(id + "-" + call)
+                    : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("unavailable"));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/failing")
+        public Mono<ResponseEntity<String>> failing() {
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("unavailable"));
+        }
+
+        private int count(String key) {
+            return CALLS.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+}
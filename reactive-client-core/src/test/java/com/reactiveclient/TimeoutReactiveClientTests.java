@@ -0,0 +1,174 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.reactiveclient;
+
+import com.reactiveclient.annotation.Timeout;
+import com.reactiveclient.client.limit.RateLimiter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = TimeoutReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        value = {"spring.application.name=reactiveClientTest"})
+@DirtiesContext
+public class TimeoutReactiveClientTests {
+
+    @LocalServerPort
+    private Integer port;
+
+    @Test
+    public void responseTimeout() {
+        Mono<String> slow = TimeoutClient.create("http://localhost:" + port).slowWithResponseTimeout();
+        StepVerifier.create(slow)
+                .expectError(ReactiveClientTimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void responseTimeout_withFastResponse() {
+        Mono<String> fast = TimeoutClient.create("http://localhost:" + port).fastWithResponseTimeout();
+        StepVerifier.create(fast)
+                .expectNext("fast")
+                .verifyComplete();
+    }
+
+    @Test
+    public void readIdleTimeout() {
+        Flux<String> slowStream = TimeoutClient.create("http://localhost:" + port).slowStreamWithReadIdleTimeout();
+        StepVerifier.create(slowStream)
+                .expectNext("first")
+                .expectError(ReactiveClientTimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void deadline_fromClientConfiguration() {
+        Mono<String> slow = ReactiveClientBuilder
+                .builder()
+                .deadline(100)
+                .build(TimeoutClient.class, "http://localhost:" + port)
+                .slow();
+        StepVerifier.create(slow)
+                .expectError(ReactiveClientTimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void deadline_includesRateLimitWait() {
+        TimeoutClient client = ReactiveClientBuilder
+                .builder()
+                .deadline(300)
+                .rateLimiter(new RateLimiter(1, 1, 5000))
+                .build(TimeoutClient.class, "http://localhost:" + port);
+        StepVerifier.create(client.fast())
+                .expectNext("fast")
+                .verifyComplete();
+
+        StepVerifier.create(client.fast())
+                .expectError(ReactiveClientTimeoutException.class)
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void deadline_propagatedAsHeader() {
+        Mono<Long> remaining = TimeoutClient.create("http://localhost:" + port).deadlineHeader();
+        StepVerifier.create(remaining)
+                .consumeNextWith(value -> assertThat(value).isBetween(1L, 2000L))
+                .verifyComplete();
+    }
+
+    private interface TimeoutClient {
+        static TimeoutClient create(String url) {
+            return ReactiveClientBuilder
+                    .builder()
+                    .build(TimeoutClient.class, url);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/slow")
+        Mono<String> slow();
+
+        @RequestMapping(method = RequestMethod.GET, path = "/fast")
+        Mono<String> fast();
+
+        @Timeout(response = 100)
+        @RequestMapping(method = RequestMethod.GET, path = "/slow")
+        Mono<String> slowWithResponseTimeout();
+
+        @Timeout(response = 1000)
+        @RequestMapping(method = RequestMethod.GET, path = "/fast")
+        Mono<String> fastWithResponseTimeout();
+
+        @Timeout(readIdle = 100)
+        @RequestMapping(method = RequestMethod.GET, path = "/slowStream")
+        Flux<String> slowStreamWithReadIdleTimeout();
+
+        @Timeout(deadline = 2000)
+        @RequestMapping(method = RequestMethod.GET, path = "/deadline")
+        Mono<Long> deadlineHeader();
+    }
+
+    @RestController
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(TimeoutReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/slow")
+        public Mono<String> slow() {
+            return Mono.delay(Duration.ofMillis(1000))
+                    .map(tick -> "slow");
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/fast")
+        public Mono<String> fast() {
+            return Mono.just("fast");
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/slowStream")
+        public Flux<String> slowStream() {
+            return Flux.concat(Mono.just("first"),
+                    Mono.delay(Duration.ofMillis(1000)).map(tick -> "second"));
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/deadline")
+        public Mono<Long> deadline(@RequestHeader("X-Request-Timeout") Long remaining) {
+            return Mono.just(remaining);
+        }
+    }
+}
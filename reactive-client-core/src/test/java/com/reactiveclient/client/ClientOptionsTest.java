@@ -0,0 +1,60 @@
+package com.reactiveclient.client;
+
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientOptionsTest {
+
+    @Test
+    public void defaults() {
+        ClientOptions clientOptions = ClientOptions.defaults();
+        assertThat(clientOptions.getMaxConnections())
+                .isNull();
+        assertThat(clientOptions.getAcquireTimeout())
+                .isEqualTo(ClientOptions.DEFAULT_ACQUIRE_TIMEOUT);
+        assertThat(clientOptions.getEventLoopThreads())
+                .isZero();
+        assertThat(clientOptions.getFireAndForgetDispatcher())
+                .isNull();
+        assertThat(clientOptions.isCompression())
+                .isFalse();
+    }
+
+    @Test
+    public void maxConnections() {
+        ClientOptions clientOptions = ClientOptions.newBuilder()
+                .name("test-client")
+                .maxConnections(10)
+                .acquireTimeout(100L)
+                .build();
+        assertThat(clientOptions)
+                .extracting("name", "maxConnections", "acquireTimeout")
+                .containsExactly("test-client", 10, 100L);
+    }
+
+    @Test
+    public void maxConnections_withZero() {
+        assertThatThrownBy(() -> ClientOptions.newBuilder().maxConnections(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void acquireTimeout_withNegativeValue() {
+        assertThatThrownBy(() -> ClientOptions.newBuilder().acquireTimeout(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void allocator_pooledByDefault() {
+        assertThat(ClientOptions.defaults().getAllocator())
+                .isSameAs(PooledByteBufAllocator.DEFAULT);
+        assertThatThrownBy(() -> ClientOptions.newBuilder().allocator(null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
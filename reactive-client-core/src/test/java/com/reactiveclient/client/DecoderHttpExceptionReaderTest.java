@@ -0,0 +1,100 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.ErrorDecoder;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DecoderHttpExceptionReaderTest {
+    private final PooledByteBufAllocator allocator = new PooledByteBufAllocator(true, 1, 1, 8192, 11, 0, 0, 0);
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(allocator);
+
+    private final DecoderHttpExceptionReader reader = new DecoderHttpExceptionReader(ErrorDecoder.of(HttpStatus::isError,
+            (httpStatus, inputStream) -> new IllegalStateException(httpStatus.value() + " " + read(inputStream))));
+
+    @Mock
+    private ClientHttpResponse response;
+
+    @Test
+    public void readMono_joinsAndReleasesBuffers() {
+        DataBuffer first = buffer("service ");
+        DataBuffer second = buffer("unavailable");
+        when(response.getStatusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+        when(response.getBody()).thenReturn(Flux.just(first, second));
+
+        StepVerifier.create(reader.readMono(response))
+                .expectErrorMessage("503 service unavailable")
+                .verify();
+        assertThat(refCnt(first))
+                .isZero();
+        assertThat(refCnt(second))
+                .isZero();
+        assertThat(AllocatorMetrics.of(allocator).getActiveAllocations())
+                .isZero();
+    }
+
+    @Test
+    public void read_releasesBuffersOnBodyError() {
+        DataBuffer first = buffer("partial");
+        when(response.getBody()).thenReturn(Flux.just(first).concatWith(Flux.error(new IOException("closed"))));
+
+        StepVerifier.create(reader.read(response))
+                .expectError(IOException.class)
+                .verify();
+        assertThat(refCnt(first))
+                .isZero();
+    }
+
+    @Test
+    public void allocatorMetrics_pinnedUntilReleased() {
+        DataBuffer buffer = buffer("pinned");
+        AllocatorMetrics allocated = AllocatorMetrics.of(allocator);
+        DataBufferUtils.release(buffer);
+
+        assertThat(allocated.getActiveAllocations())
+                .isEqualTo(1);
+        assertThat(allocated.getPinnedDirectMemory())
+                .isPositive();
+        assertThat(AllocatorMetrics.of(allocator).getActiveAllocations())
+                .isZero();
+    }
+
+    private DataBuffer buffer(String content) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(content.length());
+        buffer.write(content.getBytes(StandardCharsets.UTF_8));
+        return buffer;
+    }
+
+    private static int refCnt(DataBuffer buffer) {
+        return ((NettyDataBuffer) buffer).getNativeBuffer().refCnt();
+    }
+
+    private static String read(InputStream inputStream) {
+        try {
+            return StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.reactiveclient.client;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultWebClientFactoryTest {
+
+    @Mock
+    private ExtendedClientHttpConnector connector;
+
+    @Test
+    public void close_leavesGivenConnectorAndDispatcherOpen() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.defaults();
+        DefaultWebClientFactory webClientFactory = new DefaultWebClientFactory(Collections.emptyList(), ClientOptions.newBuilder()
+                .connector(connector)
+                .fireAndForgetDispatcher(dispatcher)
+                .build());
+
+        webClientFactory.close();
+
+        verify(connector, never()).close();
+        dispatcher.dispatch("call", Mono::empty);
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void close_shutsDownDefaultDispatcher() {
+        DefaultWebClientFactory webClientFactory = new DefaultWebClientFactory(Collections.emptyList(), ClientOptions.newBuilder()
+                .connector(connector)
+                .build());
+        FireAndForgetDispatcher dispatcher = webClientFactory.getFireAndForgetDispatcher();
+        assertThat(webClientFactory.getFireAndForgetDispatcher())
+                .isSameAs(dispatcher);
+
+        webClientFactory.close();
+
+        assertThatThrownBy(() -> dispatcher.dispatch("late", Mono::empty))
+                .isInstanceOf(RequestRejectedException.class);
+    }
+}
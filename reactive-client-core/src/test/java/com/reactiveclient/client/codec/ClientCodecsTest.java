@@ -0,0 +1,146 @@
+package com.reactiveclient.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.google.protobuf.StringValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientCodecsTest {
+    private static final ResolvableType ITEM = ResolvableType.forClass(Item.class);
+    private static final ResolvableType STRING_VALUE = ResolvableType.forClass(StringValue.class);
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void cbor_mono() {
+        ObjectMapper objectMapper = new ObjectMapper(new CBORFactory());
+        JacksonBinaryEncoder encoder = new JacksonBinaryEncoder(objectMapper, ClientCodecs.CBOR);
+        JacksonBinaryDecoder decoder = new JacksonBinaryDecoder(objectMapper, ClientCodecs.CBOR);
+
+        Flux<DataBuffer> body = encoder.encode(Mono.just(new Item("a", 1)), bufferFactory, ITEM, ClientCodecs.CBOR, Collections.emptyMap());
+
+        StepVerifier.create(decoder.decodeToMono(body, ITEM, ClientCodecs.CBOR, Collections.emptyMap()))
+                .expectNext(new Item("a", 1))
+                .verifyComplete();
+    }
+
+    @Test
+    public void smile_flux() {
+        ClientCodec codec = ClientCodecs.smile();
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        JacksonBinaryEncoder encoder = new JacksonBinaryEncoder(objectMapper, ClientCodecs.SMILE);
+        JacksonBinaryDecoder decoder = new JacksonBinaryDecoder(objectMapper, ClientCodecs.SMILE);
+
+        Flux<DataBuffer> body = encoder.encode(Flux.just(new Item("a", 1), new Item("b", 2)), bufferFactory, ITEM, ClientCodecs.SMILE, Collections.emptyMap());
+
+        StepVerifier.create(decoder.decode(body, ITEM, ClientCodecs.SMILE, Collections.emptyMap()))
+                .expectNext(new Item("a", 1), new Item("b", 2))
+                .verifyComplete();
+        assertThat(codec.getReader().canRead(ITEM, MediaType.valueOf("application/x-jackson-smile")))
+                .isTrue();
+        assertThat(codec.getReader().canRead(ITEM, MediaType.APPLICATION_JSON))
+                .isFalse();
+    }
+
+    @Test
+    public void protobuf_mono() {
+        ProtobufEncoder encoder = new ProtobufEncoder();
+        ProtobufDecoder decoder = new ProtobufDecoder();
+
+        Flux<DataBuffer> body = encoder.encode(Mono.just(value("a")), bufferFactory, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap());
+
+        StepVerifier.create(decoder.decodeToMono(body, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap()))
+                .expectNext(value("a"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void protobuf_fluxSplitAcrossBuffers() {
+        ProtobufEncoder encoder = new ProtobufEncoder();
+        ProtobufDecoder decoder = new ProtobufDecoder();
+
+        List<DataBuffer> encoded = encoder.encode(Flux.just(value("first"), value("second")), bufferFactory, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap())
+                .collectList()
+                .block();
+        byte[] bytes = Flux.fromIterable(encoded)
+                .map(DataBuffers::toByteArray)
+                .reduce(new byte[0], ClientCodecsTest::concat)
+                .block();
+        Flux<DataBuffer> chunks = Flux.range(0, bytes.length)
+                .map(i -> bufferFactory.wrap(new byte[]{bytes[i]}));
+
+        StepVerifier.create(decoder.decode(chunks, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap()))
+                .expectNext(value("first"), value("second"))
+                .verifyComplete();
+    }
+
+    @Test
+    public void protobuf_largeMessageSplitAcrossManyBuffers() {
+        ProtobufEncoder encoder = new ProtobufEncoder();
+        ProtobufDecoder decoder = new ProtobufDecoder();
+        char[] chars = new char[1 << 20];
+        Arrays.fill(chars, 'x');
+        StringValue large = value(new String(chars));
+
+        byte[] bytes = encoder.encode(Flux.just(large, value("next")), bufferFactory, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap())
+                .map(DataBuffers::toByteArray)
+                .reduce(new byte[0], ClientCodecsTest::concat)
+                .block();
+        int chunkSize = 64;
+        Flux<DataBuffer> chunks = Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> bufferFactory.wrap(Arrays.copyOfRange(bytes, i * chunkSize, Math.min(bytes.length, (i + 1) * chunkSize))));
+
+        StepVerifier.create(decoder.decode(chunks, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap()))
+                .expectNext(large, value("next"))
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void protobuf_incompleteStream() {
+        ProtobufDecoder decoder = new ProtobufDecoder();
+        Flux<DataBuffer> truncated = Flux.just(bufferFactory.wrap(new byte[]{5, 1, 2}));
+
+        StepVerifier.create(decoder.decode(truncated, STRING_VALUE, ClientCodecs.PROTOBUF, Collections.emptyMap()))
+                .expectError(CodecException.class)
+                .verify();
+    }
+
+    private static StringValue value(String value) {
+        return StringValue.newBuilder().setValue(value).build();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Item {
+        private String name;
+        private int count;
+    }
+}
@@ -0,0 +1,92 @@
+package com.reactiveclient.client.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrecompiledJsonCodecTest {
+    private static final ResolvableType ITEM = ResolvableType.forClass(Item.class);
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void mono_roundTrip() {
+        PrecompiledJsonEncoder encoder = new PrecompiledJsonEncoder(JacksonJsonCodec.defaults(), ITEM);
+        PrecompiledJsonDecoder decoder = new PrecompiledJsonDecoder(JacksonJsonCodec.defaults(), ITEM);
+
+        Flux<DataBuffer> body = encoder.encode(Mono.just(new Item("a", 1)), bufferFactory, ITEM, MediaType.APPLICATION_JSON, Collections.emptyMap());
+
+        StepVerifier.create(decoder.decodeToMono(body, ITEM, MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .expectNext(new Item("a", 1))
+                .verifyComplete();
+    }
+
+    @Test
+    public void flux_encodedAsArray() {
+        PrecompiledJsonEncoder encoder = new PrecompiledJsonEncoder(JacksonJsonCodec.defaults(), ITEM);
+
+        Flux<DataBuffer> body = encoder.encode(Flux.just(new Item("a", 1), new Item("b", 2)), bufferFactory, ITEM, MediaType.APPLICATION_JSON, Collections.emptyMap());
+
+        StepVerifier.create(DataBuffers.join(body).map(bytes -> new String(bytes, StandardCharsets.UTF_8)))
+                .expectNext("[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":2}]")
+                .verifyComplete();
+    }
+
+    @Test
+    public void flux_decodedFromArray() {
+        PrecompiledJsonDecoder decoder = new PrecompiledJsonDecoder(JacksonJsonCodec.withAfterburner(), ITEM);
+        DataBuffer body = bufferFactory.wrap("[{\"name\":\"a\",\"count\":1},{\"name\":\"b\",\"count\":2}]".getBytes(StandardCharsets.UTF_8));
+
+        StepVerifier.create(decoder.decode(Mono.just(body), ITEM, MediaType.APPLICATION_JSON, Collections.emptyMap()))
+                .expectNext(new Item("a", 1), new Item("b", 2))
+                .verifyComplete();
+    }
+
+    @Test
+    public void canDecode_matchesGenerics() {
+        ResolvableType items = ResolvableType.forClassWithGenerics(List.class, Item.class);
+        PrecompiledJsonDecoder decoder = new PrecompiledJsonDecoder(JacksonJsonCodec.defaults(), items);
+
+        assertThat(decoder.canDecode(items, MediaType.APPLICATION_JSON))
+                .isTrue();
+        assertThat(decoder.canDecode(ResolvableType.forClassWithGenerics(List.class, Other.class), MediaType.APPLICATION_JSON))
+                .isFalse();
+    }
+
+    @Test
+    public void precompiledJson_onlyJsonTypes() {
+        ClientCodec codec = ClientCodecs.precompiledJson(JacksonJsonCodec.defaults(), ResolvableType.forClass(String.class), ITEM);
+
+        assertThat(codec.getReader())
+                .isNull();
+        assertThat(codec.getWriter().canWrite(ITEM, MediaType.APPLICATION_JSON))
+                .isTrue();
+        assertThat(codec.getWriter().canWrite(ResolvableType.forClass(Other.class), MediaType.APPLICATION_JSON))
+                .isFalse();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private String name;
+        private int count;
+    }
+
+    public static class Other {
+    }
+}
@@ -0,0 +1,158 @@
+package com.reactiveclient.client.dispatch;
+
+import com.reactiveclient.RequestRejectedException;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FireAndForgetDispatcherTest {
+
+    @Test
+    public void dispatch_concurrencyIsBounded() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(2)
+                .build();
+        MonoProcessor<Void> pending = MonoProcessor.create();
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.dispatch("call", () -> pending);
+        }
+
+        assertThat(dispatcher.getInFlight())
+                .isEqualTo(2);
+        assertThat(dispatcher.getQueued())
+                .isEqualTo(3);
+
+        pending.onComplete();
+
+        assertThat(dispatcher.getInFlight())
+                .isEqualTo(0);
+        assertThat(dispatcher.getQueued())
+                .isEqualTo(0);
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(5);
+    }
+
+    @Test
+    public void dispatch_synchronousCallsDoNotRecurse() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(1)
+                .queueSize(100000)
+                .build();
+        MonoProcessor<Void> pending = MonoProcessor.create();
+
+        dispatcher.dispatch("running", () -> pending);
+        for (int i = 0; i < 100000; i++) {
+            dispatcher.dispatch("queued", Mono::empty);
+        }
+        pending.onComplete();
+
+        assertThat(dispatcher.getQueued())
+                .isEqualTo(0);
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(100001);
+    }
+
+    @Test
+    public void dispatch_overflowIsDropped() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(1)
+                .queueSize(1)
+                .build();
+
+        dispatcher.dispatch("running", Mono::never);
+        dispatcher.dispatch("queued", Mono::never);
+        dispatcher.dispatch("dropped", Mono::never);
+
+        assertThat(dispatcher.getQueued())
+                .isEqualTo(1);
+        assertThat(dispatcher.getDropped())
+                .isEqualTo(1);
+        assertThat(dispatcher.getRejected())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void dispatch_withoutQueueRunsWhileBelowConcurrency() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(1)
+                .queueSize(0)
+                .build();
+
+        dispatcher.dispatch("running", Mono::never);
+        dispatcher.dispatch("dropped", Mono::never);
+
+        assertThat(dispatcher.getInFlight())
+                .isEqualTo(1);
+        assertThat(dispatcher.getQueued())
+                .isEqualTo(0);
+        assertThat(dispatcher.getDropped())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void dispatch_overflowIsRejected() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(1)
+                .queueSize(1)
+                .overflowPolicy(FireAndForgetDispatcher.OverflowPolicy.REJECT)
+                .build();
+
+        dispatcher.dispatch("running", Mono::never);
+        dispatcher.dispatch("queued", Mono::never);
+
+        assertThatThrownBy(() -> dispatcher.dispatch("rejected", Mono::never))
+                .isInstanceOf(RequestRejectedException.class);
+        assertThat(dispatcher.getRejected())
+                .isEqualTo(1);
+        assertThat(dispatcher.getDropped())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void dispatch_failuresAreCounted() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.defaults();
+
+        dispatcher.dispatch("failing", () -> Mono.error(new IllegalStateException()));
+        dispatcher.dispatch("failing", () -> {
+            throw new IllegalStateException();
+        });
+        dispatcher.dispatch("succeeding", Mono::empty);
+
+        assertThat(dispatcher.getFailed())
+                .isEqualTo(2);
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(1);
+        assertThat(dispatcher.getInFlight())
+                .isEqualTo(0);
+    }
+
+    @Test
+    public void shutdown_drainsQueuedCalls() {
+        FireAndForgetDispatcher dispatcher = FireAndForgetDispatcher.newBuilder()
+                .concurrency(1)
+                .build();
+
+        dispatcher.dispatch("delayed", () -> Mono.delay(Duration.ofMillis(50)));
+        dispatcher.dispatch("delayed", () -> Mono.delay(Duration.ofMillis(50)));
+
+        StepVerifier.create(dispatcher.shutdown())
+                .verifyComplete();
+        assertThat(dispatcher.getCompleted())
+                .isEqualTo(2);
+        assertThatThrownBy(() -> dispatcher.dispatch("late", Mono::empty))
+                .isInstanceOf(RequestRejectedException.class);
+    }
+
+    @Test
+    public void shutdown_withoutCalls() {
+        StepVerifier.create(FireAndForgetDispatcher.defaults().shutdown())
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,184 @@
+package com.reactiveclient.client.dns;
+
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingDnsResolverGroupTest {
+    private static final InetAddress SERVICE_ADDRESS = InetAddress.getLoopbackAddress();
+
+    private LocalDnsServer dnsServer;
+    private NioEventLoopGroup eventLoopGroup;
+    private CachingDnsResolverGroup resolverGroup;
+
+    @Before
+    public void setUp() throws Exception {
+        dnsServer = new LocalDnsServer(60);
+        dnsServer.addRecord("service.reactiveclient.test", SERVICE_ADDRESS);
+        eventLoopGroup = new NioEventLoopGroup(1);
+    }
+
+    @After
+    public void tearDown() {
+        if (resolverGroup != null) {
+            resolverGroup.close();
+        }
+        eventLoopGroup.shutdownGracefully();
+        dnsServer.close();
+    }
+
+    @Test
+    public void resolve_cachesAnswers() throws Exception {
+        resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                .nameServer(dnsServer.getAddress())
+                .build());
+
+        assertThat(resolve("service.reactiveclient.test").getAddress())
+                .isEqualTo(SERVICE_ADDRESS);
+        assertThat(resolve("service.reactiveclient.test").getAddress())
+                .isEqualTo(SERVICE_ADDRESS);
+
+        assertThat(dnsServer.getQueries())
+                .isEqualTo(1);
+        assertThat(resolverGroup.getMetrics().getResolutions())
+                .isEqualTo(2);
+        assertThat(resolverGroup.getMetrics().getCacheHits())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_unknownHost() {
+        resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                .nameServer(dnsServer.getAddress())
+                .build());
+
+        assertThatThrownBy(() -> resolve("unknown.reactiveclient.test"))
+                .hasRootCauseInstanceOf(UnknownHostException.class);
+        assertThat(resolverGroup.getMetrics().getFailures())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void refresh_resolvesRecentHostsAgain() throws Exception {
+        resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                .nameServer(dnsServer.getAddress())
+                .build());
+        resolve("service.reactiveclient.test");
+
+        resolverGroup.refresh("service.reactiveclient.test", eventLoopGroup.next());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (resolverGroup.getMetrics().getRefreshes() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dnsServer.getQueries())
+                .isEqualTo(2);
+        assertThat(resolverGroup.getMetrics().getRefreshes())
+                .isEqualTo(1);
+        assertThat(resolve("service.reactiveclient.test").getAddress())
+                .isEqualTo(SERVICE_ADDRESS);
+        assertThat(dnsServer.getQueries())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void refresh_failureKeepsCachedAddress() throws Exception {
+        resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                .nameServer(dnsServer.getAddress())
+                .build());
+        resolve("service.reactiveclient.test");
+        dnsServer.removeRecord("service.reactiveclient.test");
+
+        resolverGroup.refresh("service.reactiveclient.test", eventLoopGroup.next());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (resolverGroup.getMetrics().getRefreshFailures() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(resolverGroup.getMetrics().getRefreshFailures())
+                .isEqualTo(1);
+        assertThat(resolverGroup.getMetrics().getRefreshes())
+                .isZero();
+        assertThat(resolve("service.reactiveclient.test").getAddress())
+                .isEqualTo(SERVICE_ADDRESS);
+    }
+
+    @Test
+    public void refresh_scheduledFromTheTtl() throws Exception {
+        try (LocalDnsServer shortTtlServer = new LocalDnsServer(1)) {
+            shortTtlServer.addRecord("service.reactiveclient.test", SERVICE_ADDRESS);
+            resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                    .nameServer(shortTtlServer.getAddress())
+                    .refreshRatio(0.5)
+                    .build());
+            resolve("service.reactiveclient.test");
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (resolverGroup.getMetrics().getRefreshes() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(resolverGroup.getMetrics().getRefreshes())
+                    .isEqualTo(1);
+            assertThat(shortTtlServer.getQueries())
+                    .isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void refresh_keepsIpv6Addresses() throws Exception {
+        InetAddress ipv6Address = InetAddress.getByName("::1");
+        dnsServer.addRecord("ipv6.reactiveclient.test", ipv6Address);
+        resolverGroup = new CachingDnsResolverGroup(DnsOptions.newBuilder()
+                .nameServer(dnsServer.getAddress())
+                .resolvedAddressTypes(ResolvedAddressTypes.IPV6_PREFERRED)
+                .build());
+        resolve("ipv6.reactiveclient.test");
+
+        resolverGroup.refresh("ipv6.reactiveclient.test", eventLoopGroup.next());
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (resolverGroup.getMetrics().getRefreshes() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(resolverGroup.getMetrics().getRefreshes())
+                .isEqualTo(1);
+        assertThat(resolve("ipv6.reactiveclient.test").getAddress())
+                .isEqualTo(ipv6Address);
+    }
+
+    @Test
+    public void invalidRefreshRatio() {
+        assertThatThrownBy(() -> DnsOptions.newBuilder().refreshRatio(1).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void invalidTtls() {
+        assertThatThrownBy(() -> DnsOptions.newBuilder().minTtl(10).maxTtl(5).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private InetSocketAddress resolve(String host) throws Exception {
+        EventLoop eventLoop = eventLoopGroup.next();
+        AddressResolver<InetSocketAddress> resolver = resolverGroup.getResolver(eventLoop);
+        Future<InetSocketAddress> future = eventLoop.submit(() -> resolver.resolve(InetSocketAddress.createUnresolved(host, 80)))
+                .get()
+                .await();
+        return future.get();
+    }
+}
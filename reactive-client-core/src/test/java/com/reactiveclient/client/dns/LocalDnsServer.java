@@ -0,0 +1,120 @@
+package com.reactiveclient.client.dns;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal DNS server answering A and AAAA queries from a fixed table, every other query gets an empty answer.
+ * Only the queries of the type of a host's record, A for unknown hosts, are counted.
+ */
+class LocalDnsServer implements AutoCloseable {
+    private static final int TYPE_A = 1;
+    private static final int TYPE_AAAA = 28;
+
+    private final DatagramSocket socket;
+    private final Map<String, byte[]> records;
+    private final AtomicInteger queries;
+    private final int ttl;
+
+    LocalDnsServer(int ttl) throws SocketException {
+        this.socket = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        this.records = new ConcurrentHashMap<>();
+        this.queries = new AtomicInteger();
+        this.ttl = ttl;
+        Thread thread = new Thread(this::serve, "local-dns-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void addRecord(String name, InetAddress address) {
+        records.put(name, address.getAddress());
+    }
+
+    void removeRecord(String name) {
+        records.remove(name);
+    }
+
+    InetSocketAddress getAddress() {
+        return (InetSocketAddress) socket.getLocalSocketAddress();
+    }
+
+    int getQueries() {
+        return queries.get();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void serve() {
+        byte[] buffer = new byte[512];
+        while (!socket.isClosed()) {
+            try {
+                DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+                socket.receive(request);
+                byte[] response = answer(ByteBuffer.wrap(request.getData(), 0, request.getLength()));
+                socket.send(new DatagramPacket(response, response.length, request.getSocketAddress()));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private byte[] answer(ByteBuffer query) {
+        short id = query.getShort(0);
+        int questionStart = 12;
+        StringBuilder name = new StringBuilder();
+        int position = questionStart;
+        int length;
+        while ((length = query.get(position) & 0xFF) != 0) {
+            if (name.length() > 0) {
+                name.append('.');
+            }
+            for (int i = 1; i <= length; i++) {
+                name.append((char) query.get(position + i));
+            }
+            position += length + 1;
+        }
+        int questionEnd = position + 1 + 4;
+        int type = query.getShort(position + 1) & 0xFFFF;
+
+        byte[] record = records.get(name.toString());
+        int recordType = record == null || record.length == 4 ? TYPE_A : TYPE_AAAA;
+        byte[] address = type == recordType ? record : null;
+        if (type == recordType) {
+            queries.incrementAndGet();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteBuffer header = ByteBuffer.allocate(12);
+        header.putShort(id);
+        header.putShort((short) 0x8180);
+        header.putShort((short) 1);
+        header.putShort((short) (address != null ? 1 : 0));
+        header.putShort((short) 0);
+        header.putShort((short) 0);
+        out.write(header.array(), 0, 12);
+        out.write(query.array(), query.arrayOffset() + questionStart, questionEnd - questionStart);
+        if (address != null) {
+            ByteBuffer answer = ByteBuffer.allocate(12 + address.length);
+            answer.putShort((short) 0xC00C);
+            answer.putShort((short) recordType);
+            answer.putShort((short) 1);
+            answer.putInt(ttl);
+            answer.putShort((short) address.length);
+            answer.put(address);
+            out.write(answer.array(), 0, answer.capacity());
+        }
+        return out.toByteArray();
+    }
+}
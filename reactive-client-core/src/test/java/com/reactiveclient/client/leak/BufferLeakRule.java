@@ -0,0 +1,45 @@
+package com.reactiveclient.client.leak;
+
+import org.junit.rules.ExternalResource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fails a test when a buffer of the clients built with {@link #getLeakDetector()} is not released at its end.
+ * Buffers are released asynchronously after a cancellation, so the rule waits a little before failing.
+ */
+public class BufferLeakRule extends ExternalResource {
+    private static final long TIMEOUT = 2000L;
+
+    private final BufferLeakDetector leakDetector = new BufferLeakDetector();
+
+    public BufferLeakDetector getLeakDetector() {
+        return leakDetector;
+    }
+
+    @Override
+    protected void before() {
+        leakDetector.reset();
+    }
+
+    @Override
+    protected void after() {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        List<BufferLeak> leaks = leakDetector.leaks();
+        while (!leaks.isEmpty() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            leaks = leakDetector.leaks();
+        }
+        if (!leaks.isEmpty()) {
+            throw new AssertionError(leaks.size() + " buffers not released: " + leaks.stream()
+                    .map(BufferLeak::toString)
+                    .collect(Collectors.joining(", ")), leaks.get(0).getSite());
+        }
+    }
+}
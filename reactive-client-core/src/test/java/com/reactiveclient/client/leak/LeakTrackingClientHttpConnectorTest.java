@@ -0,0 +1,60 @@
+package com.reactiveclient.client.leak;
+
+import com.reactiveclient.client.ExtendedClientHttpConnector;
+import com.reactiveclient.metadata.Timeouts;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LeakTrackingClientHttpConnectorTest {
+
+    @Mock
+    private ExtendedClientHttpConnector delegate;
+
+    @Mock
+    private ClientHttpRequest request;
+
+    @Mock
+    private ClientHttpResponse response;
+
+    @Test
+    public void connect_attributesRequestBodyToTheMethod() {
+        BufferLeakDetector leakDetector = new BufferLeakDetector();
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(leakDetector);
+        when(request.writeWith(any())).thenAnswer(invocation -> Flux.from(invocation.<Publisher<DataBuffer>>getArgument(0)).then());
+        when(delegate.connect(any(), any(), any(), any(), anyLong())).thenAnswer(invocation -> invocation
+                .<Function<ClientHttpRequest, Mono<Void>>>getArgument(2)
+                .apply(request)
+                .then(Mono.just(response)));
+        LeakTrackingClientHttpConnector connector = new LeakTrackingClientHttpConnector(delegate, leakDetector, "Client.method");
+
+        StepVerifier.create(connector.connect(HttpMethod.POST, URI.create("http://localhost/"),
+                clientRequest -> clientRequest.writeWith(Mono.fromSupplier(() -> bufferFactory.allocateBuffer(16))),
+                Timeouts.none(), Timeouts.NONE))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(leakDetector.leaks())
+                .extracting(BufferLeak::getOwner)
+                .containsExactly("Client.method");
+    }
+}
@@ -0,0 +1,115 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.client.ClientOptions;
+import com.reactiveclient.client.TypedClientResponse;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkheadTest {
+
+    @Mock
+    private ClientRequest clientRequest;
+
+    @Mock
+    private ClientResponse clientResponse;
+
+    @Mock
+    private TypedClientResponse typedClientResponse;
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    @Test
+    public void invalidLimit() {
+        assertThatThrownBy(() -> new Bulkhead("invalid", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void clientsWithTheSameNameAreIndependent() {
+        ClientOptions first = ClientOptions.newBuilder().bulkhead(2).build();
+        ClientOptions second = ClientOptions.newBuilder().bulkhead(3).build();
+        assertThat(first.getBulkhead())
+                .isNotSameAs(second.getBulkhead());
+
+        Bulkhead shared = new Bulkhead("shared", 2);
+        assertThat(ClientOptions.newBuilder().bulkhead(shared).build().getBulkhead())
+                .isSameAs(shared);
+    }
+
+    @Test
+    public void tryAcquire_overLimitIsRejected() {
+        Bulkhead bulkhead = new Bulkhead("limited", 1);
+        assertThat(bulkhead.tryAcquire())
+                .isTrue();
+        assertThat(bulkhead.tryAcquire())
+                .isFalse();
+        bulkhead.release();
+        assertThat(bulkhead.tryAcquire())
+                .isTrue();
+        bulkhead.release();
+
+        assertThat(bulkhead.getAccepted())
+                .isEqualTo(2);
+        assertThat(bulkhead.getRejected())
+                .isEqualTo(1);
+        assertThat(bulkhead.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void filter_rejectsFastAndReleasesOnCompletion() {
+        Bulkhead bulkhead = new Bulkhead("filtered", 1);
+        BulkheadExchangeFilter filter = new BulkheadExchangeFilter(bulkhead);
+        MonoProcessor<ClientResponse> pending = MonoProcessor.create();
+        when(exchangeFunction.exchange(any())).thenReturn(pending);
+
+        Mono<ClientResponse> first = filter.filter(clientRequest, exchangeFunction);
+        StepVerifier.create(first)
+                .then(() -> StepVerifier.create(filter.filter(clientRequest, exchangeFunction))
+                        .expectError(RequestRejectedException.class)
+                        .verify())
+                .then(() -> pending.onNext(clientResponse))
+                .expectNext(clientResponse)
+                .verifyComplete();
+
+        assertThat(bulkhead.getInFlight())
+                .isZero();
+        assertThat(bulkhead.getRejected())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void filter_heldUntilEndOfBody() {
+        Bulkhead bulkhead = new Bulkhead("streaming", 1);
+        BulkheadExchangeFilter filter = new BulkheadExchangeFilter(bulkhead);
+        DirectProcessor<String> body = DirectProcessor.create();
+        when(typedClientResponse.<String>bodyToFlux(String.class)).thenReturn(body);
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(typedClientResponse));
+
+        StepVerifier.create(filter.filter(clientRequest, exchangeFunction)
+                .flatMapMany(response -> response.bodyToFlux(String.class)))
+                .then(() -> assertThat(bulkhead.getInFlight()).isEqualTo(1))
+                .then(body::onComplete)
+                .verifyComplete();
+
+        assertThat(bulkhead.getInFlight())
+                .isZero();
+    }
+}
@@ -0,0 +1,195 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.client.TypedClientResponse;
+import com.reactiveclient.client.limit.ConcurrencyLimiter.Permit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConcurrencyLimiterTest {
+
+    @Mock
+    private ClientRequest clientRequest;
+
+    @Mock
+    private TypedClientResponse clientResponse;
+
+    @Mock
+    private ExchangeFunction exchangeFunction;
+
+    @Test
+    public void acquire_withinLimit() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10);
+        limiter.acquire().block();
+        limiter.acquire().block();
+        assertThat(limiter.getInFlight())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_overLimitIsRejected() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10);
+        limiter.acquire().block();
+        StepVerifier.create(limiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+        assertThat(limiter.getRejected())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_overLimitIsQueuedUntilRelease() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10, 1, 0);
+        Permit permit = limiter.acquire().block();
+        Mono<Permit> waiting = limiter.acquire();
+
+        StepVerifier.create(waiting)
+                .then(() -> assertThat(limiter.getQueued()).isEqualTo(1))
+                .then(permit::release)
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(limiter.getQueued())
+                .isZero();
+    }
+
+    @Test
+    public void acquire_overQueueSizeIsRejected() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10, 1, 0);
+        limiter.acquire().block();
+        limiter.acquire().subscribe();
+        StepVerifier.create(limiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    public void acquire_maxWaitExpiredIsRejected() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10, 1, 50);
+        Permit permit = limiter.acquire().block();
+
+        StepVerifier.create(limiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+        assertThat(limiter.getQueued())
+                .isZero();
+
+        permit.release();
+        assertThat(limiter.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void acquire_cancelledWaiterHoldsNoPermit() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10, 1, 0);
+        Permit permit = limiter.acquire().block();
+
+        limiter.acquire().subscribe().dispose();
+        permit.release();
+
+        assertThat(limiter.getQueued())
+                .isZero();
+        assertThat(limiter.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void acquire_permitTakenOnSubscription() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(1, 1, 10);
+        Mono<Permit> acquire = limiter.acquire();
+        assertThat(limiter.getInFlight())
+                .isZero();
+
+        acquire.block().release();
+        acquire.block();
+        assertThat(limiter.getInFlight())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void release_isIdempotent() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10);
+        Permit permit = limiter.acquire().block();
+        permit.release();
+        permit.ignore();
+        assertThat(limiter.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void aimd_increaseWhenSaturated() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10);
+        Permit first = limiter.acquire().block();
+        limiter.acquire().block();
+        first.release();
+        assertThat(limiter.getLimit())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void aimd_decreaseOnDrop() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(10, 1, 10);
+        limiter.acquire().block().drop();
+        assertThat(limiter.getLimit())
+                .isEqualTo(9);
+    }
+
+    @Test
+    public void gradient_decreaseOnDrop() {
+        ConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 1, 100);
+        limiter.acquire().block().drop();
+        assertThat(limiter.getLimit())
+                .isLessThan(20);
+    }
+
+    @Test
+    public void gradient_neverBelowMinLimit() {
+        ConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 2, 100);
+        for (int i = 0; i < 20; i++) {
+            limiter.acquire().block().drop();
+        }
+        assertThat(limiter.getLimit())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void filter_permitHeldUntilEndOfBody() {
+        ConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 1, 10);
+        ConcurrencyLimitExchangeFilter filter = new ConcurrencyLimitExchangeFilter(limiter);
+        DirectProcessor<String> body = DirectProcessor.create();
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(clientResponse.<String>bodyToFlux(String.class)).thenReturn(body);
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(clientResponse));
+
+        StepVerifier.create(filter.filter(clientRequest, exchangeFunction)
+                .flatMapMany(response -> response.bodyToFlux(String.class)))
+                .then(() -> assertThat(limiter.getInFlight()).isEqualTo(1))
+                .then(() -> body.onNext("chunk"))
+                .expectNext("chunk")
+                .then(() -> assertThat(limiter.getInFlight()).isEqualTo(1))
+                .then(body::onComplete)
+                .verifyComplete();
+
+        assertThat(limiter.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void invalidLimits() {
+        assertThatThrownBy(() -> new GradientConcurrencyLimiter(1, 2, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
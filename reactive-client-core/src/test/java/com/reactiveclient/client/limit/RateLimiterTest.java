@@ -0,0 +1,130 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RateLimiterTest {
+
+    @Mock
+    private ClientResponse clientResponse;
+
+    @Mock
+    private ClientResponse.Headers headers;
+
+    @Test
+    public void acquire_withinBurst() {
+        RateLimiter rateLimiter = new RateLimiter(1, 3, 0);
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(rateLimiter.acquire())
+                    .verifyComplete();
+        }
+        assertThat(rateLimiter.getDelayed())
+                .isZero();
+    }
+
+    @Test
+    public void acquire_overBurstFailsFast() {
+        RateLimiter rateLimiter = new RateLimiter(1, 1, 0);
+        rateLimiter.acquire().block();
+        StepVerifier.create(rateLimiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+        assertThat(rateLimiter.getRejected())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_reservedOnSubscription() {
+        RateLimiter rateLimiter = new RateLimiter(1, 1, 0);
+        Mono<Void> acquire = rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        StepVerifier.create(acquire)
+                .verifyComplete();
+        StepVerifier.create(acquire)
+                .expectError(RequestRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    public void acquire_overBurstIsDelayed() {
+        RateLimiter rateLimiter = new RateLimiter(10, 1, 1000);
+        rateLimiter.acquire().block();
+        StepVerifier.create(rateLimiter.acquire())
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(50))
+                .verifyComplete();
+        assertThat(rateLimiter.getDelayed())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void onResponse_retryAfterPausesTheBucket() {
+        RateLimiter rateLimiter = new RateLimiter(1000, 10, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.set(RateLimiter.RETRY_AFTER, "5");
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.TOO_MANY_REQUESTS);
+        when(clientResponse.headers()).thenReturn(headers);
+        when(headers.asHttpHeaders()).thenReturn(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    public void onResponse_rateLimitResetPausesTheBucket() {
+        RateLimiter rateLimiter = new RateLimiter(1000, 10, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.set(RateLimiter.RATE_LIMIT_REMAINING, "0");
+        httpHeaders.set(RateLimiter.RATE_LIMIT_RESET, "5");
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(clientResponse.headers()).thenReturn(headers);
+        when(headers.asHttpHeaders()).thenReturn(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .expectError(RequestRejectedException.class)
+                .verify();
+    }
+
+    @Test
+    public void onResponse_remainingPermitsKeepTheBucket() {
+        RateLimiter rateLimiter = new RateLimiter(1000, 10, 0);
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.set(RateLimiter.RATE_LIMIT_REMAINING, "3");
+        httpHeaders.set(RateLimiter.RATE_LIMIT_RESET, "5");
+        when(clientResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(clientResponse.headers()).thenReturn(headers);
+        when(headers.asHttpHeaders()).thenReturn(httpHeaders);
+
+        rateLimiter.onResponse(clientResponse);
+
+        StepVerifier.create(rateLimiter.acquire())
+                .verifyComplete();
+    }
+
+    @Test
+    public void invalidRate() {
+        assertThatThrownBy(() -> new RateLimiter(0, 1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.reactiveclient.client.limit;
+
+import com.reactiveclient.RequestRejectedException;
+import com.reactiveclient.client.TypedClientResponse;
+import org.junit.Test;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.Disposable;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WeightedFairQueueTest {
+
+    @Test
+    public void acquire_underCapacity() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(2).build();
+        WeightedFairQueue.Permit first = queue.acquire("batch").block();
+        WeightedFairQueue.Permit second = queue.acquire("batch").block();
+        assertThat(queue.getInFlight())
+                .isEqualTo(2);
+
+        first.release();
+        first.release();
+        second.release();
+        assertThat(queue.getInFlight())
+                .isZero();
+        assertThat(queue.getMetrics().get("batch").getAdmitted())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_servesClassesInProportionToTheirWeight() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1)
+                .weight("interactive", 3)
+                .weight("batch", 1)
+                .build();
+        WeightedFairQueue.Permit running = queue.acquire("batch").block();
+
+        List<String> admitted = new ArrayList<>();
+        List<WeightedFairQueue.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            queue.acquire("batch").subscribe(permit -> {
+                admitted.add("batch");
+                permits.add(permit);
+            });
+        }
+        for (int i = 0; i < 6; i++) {
+            queue.acquire("interactive").subscribe(permit -> {
+                admitted.add("interactive");
+                permits.add(permit);
+            });
+        }
+        assertThat(queue.getMetrics().get("batch").getQueueDepth())
+                .isEqualTo(8);
+        assertThat(queue.getMetrics().get("interactive").getQueueDepth())
+                .isEqualTo(6);
+
+        running.release();
+        for (int i = 0; i < 8; i++) {
+            permits.get(i).release();
+        }
+
+        assertThat(admitted.subList(0, 8))
+                .filteredOn("interactive"::equals)
+                .hasSize(6);
+        Map<String, PriorityClassMetrics> metrics = queue.getMetrics();
+        assertThat(metrics.get("interactive").getQueueDepth())
+                .isZero();
+        assertThat(metrics.get("interactive").getQueued())
+                .isEqualTo(6);
+        assertThat(metrics.get("interactive").getMeanWaitTime())
+                .isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void acquire_unknownClassUsesDefaultWeight() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1)
+                .defaultWeight(2)
+                .build();
+        queue.acquire(null).block();
+        assertThat(queue.getMetrics().get(WeightedFairQueue.DEFAULT_CLASS).getWeight())
+                .isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_cancelledWaiterLeavesTheQueue() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1).build();
+        WeightedFairQueue.Permit running = queue.acquire("batch").block();
+        Disposable waiting = queue.acquire("batch").subscribe();
+        assertThat(queue.getMetrics().get("batch").getQueueDepth())
+                .isEqualTo(1);
+
+        waiting.dispose();
+        running.release();
+
+        assertThat(queue.getMetrics().get("batch").getQueueDepth())
+                .isZero();
+        assertThat(queue.getInFlight())
+                .isZero();
+    }
+
+    @Test
+    public void acquire_fullQueueIsRejected() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1)
+                .maxQueueSize(0)
+                .build();
+        queue.acquire("batch").block();
+        StepVerifier.create(queue.acquire("batch"))
+                .expectError(RequestRejectedException.class)
+                .verify();
+        assertThat(queue.getMetrics().get("batch").getRejected())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_maxWaitIsRejected() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1)
+                .maxWait(50)
+                .build();
+        queue.acquire("batch").block();
+        StepVerifier.create(queue.acquire("batch"))
+                .expectError(RequestRejectedException.class)
+                .verify();
+        assertThat(queue.getMetrics().get("batch").getQueueDepth())
+                .isZero();
+    }
+
+    @Test
+    public void filter_heldUntilEndOfBody() {
+        WeightedFairQueue queue = WeightedFairQueue.newBuilder(1).build();
+        PriorityExchangeFilter filter = new PriorityExchangeFilter(queue, "batch");
+        TypedClientResponse response = mock(TypedClientResponse.class);
+        ExchangeFunction exchangeFunction = mock(ExchangeFunction.class);
+        DirectProcessor<String> body = DirectProcessor.create();
+        when(response.<String>bodyToFlux(String.class)).thenReturn(body);
+        when(exchangeFunction.exchange(any())).thenReturn(Mono.just(response));
+
+        StepVerifier.create(filter.filter(mock(ClientRequest.class), exchangeFunction)
+                .flatMapMany(clientResponse -> clientResponse.bodyToFlux(String.class)))
+                .then(() -> assertThat(queue.getInFlight()).isEqualTo(1))
+                .then(body::onComplete)
+                .verifyComplete();
+
+        assertThat(queue.getInFlight())
+                .isZero();
+    }
+}
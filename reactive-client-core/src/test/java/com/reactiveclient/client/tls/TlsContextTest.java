@@ -0,0 +1,84 @@
+package com.reactiveclient.client.tls;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslHandshakeCompletionEvent;
+import io.netty.handler.ssl.SslProvider;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.net.ssl.SSLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TlsContextTest {
+
+    @Test
+    public void of_sharedPerConfiguration() {
+        TlsContext first = TlsContext.of(TlsOptions.newBuilder().insecure(true).build());
+        TlsContext second = TlsContext.of(TlsOptions.newBuilder().insecure(true).build());
+        TlsContext other = TlsContext.of(TlsOptions.newBuilder().insecure(true).sessionCacheSize(64).build());
+
+        assertThat(first)
+                .isSameAs(second);
+        assertThat(first.getSslContext())
+                .isSameAs(second.getSslContext());
+        assertThat(other)
+                .isNotSameAs(first);
+    }
+
+    @Test
+    public void of_sessionSettings() {
+        TlsContext tlsContext = TlsContext.of(TlsOptions.newBuilder().sessionCacheSize(128).sessionTimeout(600).build());
+
+        assertThat(tlsContext.getSslContext().isClient())
+                .isTrue();
+        assertThat(tlsContext.getSslContext().sessionCacheSize())
+                .isEqualTo(128);
+        assertThat(tlsContext.getSslContext().sessionTimeout())
+                .isEqualTo(600);
+    }
+
+    @Test
+    public void provider() {
+        assertThat(TlsContext.provider())
+                .isEqualTo(OpenSsl.isAvailable() ? SslProvider.OPENSSL : SslProvider.JDK);
+    }
+
+    @Test
+    public void register_recordsHandshakes() {
+        TlsContext tlsContext = TlsContext.of(TlsOptions.newBuilder().insecure(true).sessionTimeout(1).build());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        tlsContext.register(channel);
+
+        channel.pipeline().fireUserEventTriggered(SslHandshakeCompletionEvent.SUCCESS);
+
+        assertThat(tlsContext.getMetrics().getHandshakes())
+                .isEqualTo(1);
+        assertThat(tlsContext.getMetrics().getResumedHandshakes())
+                .isZero();
+        assertThat(channel.pipeline().get(TlsHandshakeMetricsHandler.NAME))
+                .isNull();
+    }
+
+    @Test
+    public void register_recordsFailures() {
+        TlsContext tlsContext = TlsContext.of(TlsOptions.newBuilder().insecure(true).sessionTimeout(2).build());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        tlsContext.register(channel);
+
+        channel.pipeline().fireUserEventTriggered(new SslHandshakeCompletionEvent(new SSLException("handshake")));
+
+        assertThat(tlsContext.getMetrics().getFailures())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void invalidKeyManager() {
+        assertThatThrownBy(() -> TlsOptions.newBuilder().keyManager("classpath:client.pem", null, null).build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
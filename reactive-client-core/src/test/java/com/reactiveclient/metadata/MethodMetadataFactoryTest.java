@@ -1,6 +1,12 @@
 package com.reactiveclient.metadata;
 
+import com.reactiveclient.annotation.Priority;
+import com.reactiveclient.annotation.QueryObject;
+import com.reactiveclient.annotation.RateLimit;
+import com.reactiveclient.annotation.Timeout;
 import com.reactiveclient.metadata.request.RequestHeader.BasicRequestHeader;
+import com.reactiveclient.metadata.request.MultipartBody;
+import com.reactiveclient.metadata.request.ReactiveRequest;
 import com.reactiveclient.metadata.request.ReactiveRequestTemplate;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -10,13 +16,17 @@ import org.springframework.http.HttpMethod;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MethodMetadataFactoryTest {
@@ -182,6 +192,82 @@ public class MethodMetadataFactoryTest {
                         new SimpleEntry<>(1, singletonList("pathVariable1")));
     }
 
+    @Test
+    public void timeoutAnnotationProcessing_withMethodOverridingClass() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithTimeouts.class, URI.create(""));
+        assertThat(visit)
+                .hasSize(1);
+        assertThat(visit.get(0).getTimeouts())
+                .isEqualTo(Timeouts.of(Timeouts.NONE, 100, 200, 1000));
+    }
+
+    @Test
+    public void timeoutAnnotationProcessing_withoutAnnotation() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithRequestParameters.class, URI.create(""));
+        assertThat(visit.get(0).getTimeouts())
+                .isEqualTo(Timeouts.none());
+    }
+
+    @Test
+    public void rateLimitAnnotationProcessing() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithRateLimits.class, URI.create(""));
+        assertThat(visit)
+                .hasSize(1);
+        assertThat(visit.get(0).getClientRateLimit())
+                .isEqualTo(RateLimitPolicy.of(100, 10, 0));
+        assertThat(visit.get(0).getRateLimit())
+                .isEqualTo(RateLimitPolicy.of(5, 1, 200));
+    }
+
+    @Test
+    public void rateLimitAnnotationProcessing_withoutAnnotation() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithRequestParameters.class, URI.create(""));
+        assertThat(visit.get(0).getClientRateLimit())
+                .isNull();
+        assertThat(visit.get(0).getRateLimit())
+                .isNull();
+    }
+
+    @Test
+    public void priorityAnnotationProcessing() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithPriorities.class, URI.create(""));
+        assertThat(visit)
+                .extracting(methodMetadata -> methodMetadata.getTargetMethod().getName(), MethodMetadata::getPriority)
+                .containsExactlyInAnyOrder(tuple("testClientPriority", "batch"), tuple("testMethodPriority", "interactive"));
+    }
+
+    @Test
+    public void requestPartProcessing() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithRequestParts.class, URI.create(""));
+        assertThat(visit)
+                .hasSize(1);
+        assertThat(visit.get(0).getBodyType().getRawClass())
+                .isEqualTo(MultipartBody.class);
+        assertThat(visit.get(0).getReactiveRequestTemplate().getRequestParts().getIndexToName())
+                .containsExactly(new SimpleEntry<>(0, "file"), new SimpleEntry<>(1, "description"));
+        assertThat(visit.get(0).getReactiveRequestTemplate().apply(new Object[]{Paths.get("upload.txt"), null}).getBody())
+                .isInstanceOfSatisfying(MultipartBody.class, body -> assertThat(body.getParts())
+                        .extracting(MultipartBody.Part::getName)
+                        .containsExactly("file"));
+    }
+
+    @Test
+    public void requestPartProcessing_withBody() {
+        assertThatThrownBy(() -> methodMetadataFactory.build(ReactiveClientWithRequestPartsAndBody.class, URI.create("")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void queryMapAndObjectProcessing() {
+        List<MethodMetadata> visit = methodMetadataFactory.build(ReactiveClientWithQueryArguments.class, URI.create("http://localhost:8080"));
+        assertThat(visit)
+                .hasSize(1);
+        ReactiveRequest reactiveRequest = visit.get(0).getReactiveRequestTemplate()
+                .apply(new Object[]{"hotel", singletonMap("stars", 4), new QueryFilters("Paris")});
+        assertThat(reactiveRequest.expand())
+                .isEqualTo(URI.create("http://localhost:8080/search?type=hotel&stars=4&city=Paris"));
+    }
+
     interface SimpleInterface {
     }
 
@@ -219,6 +305,51 @@ public class MethodMetadataFactoryTest {
         void testRequestHeader(@RequestHeader("requestHeader1") String requestHeader1, @RequestHeader("requestHeader2") String requestHeader2);
     }
 
+    @Timeout(response = 500, readIdle = 200)
+    interface ReactiveClientWithTimeouts {
+        @Timeout(response = 100, deadline = 1000)
+        void testTimeouts();
+    }
+
+    @RateLimit(permitsPerSecond = 100, burst = 10)
+    interface ReactiveClientWithRateLimits {
+        @RateLimit(permitsPerSecond = 5, maxWait = 200)
+        void testRateLimits();
+    }
+
+    @Priority("batch")
+    interface ReactiveClientWithPriorities {
+        void testClientPriority();
+
+        @Priority("interactive")
+        void testMethodPriority();
+    }
+
+    interface ReactiveClientWithRequestParts {
+        void testRequestParts(@RequestPart("file") Path file, @RequestPart("description") String description);
+    }
+
+    interface ReactiveClientWithRequestPartsAndBody {
+        void testRequestPartsAndBody(@RequestPart("file") Path file, String body);
+    }
+
+    interface ReactiveClientWithQueryArguments {
+        @RequestMapping("/search")
+        void testQueryArguments(@RequestParam("type") String type, @RequestParam Map<String, Object> filters, @QueryObject QueryFilters queryFilters);
+    }
+
+    public static class QueryFilters {
+        private final String city;
+
+        QueryFilters(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
     interface ReactiveClientWithRequestAndPathParameters {
         void testRequestParameterAndPathVariable(@RequestParam("requestParameter1") String requestParameter1, @PathVariable("pathVariable1") String pathVariable1);
     }
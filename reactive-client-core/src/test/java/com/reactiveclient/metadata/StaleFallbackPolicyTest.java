@@ -0,0 +1,25 @@
+package com.reactiveclient.metadata;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StaleFallbackPolicyTest {
+
+    @Test
+    public void staleAgesShorterThanMaxAge() {
+        assertThatThrownBy(() -> StaleFallbackPolicy.of(120000, 0, 60000, 256))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StaleFallbackPolicy.of(1000, 500, 0, 256))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void staleAgesDisabledOrAtLeastMaxAge() {
+        assertThat(StaleFallbackPolicy.of(1000, 0, 0, 256).getMaxAge())
+                .isEqualTo(1000);
+        assertThat(StaleFallbackPolicy.of(1000, 1000, 60000, 256).getStaleIfError())
+                .isEqualTo(60000);
+    }
+}
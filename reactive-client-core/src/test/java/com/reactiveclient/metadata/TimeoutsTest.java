@@ -0,0 +1,27 @@
+package com.reactiveclient.metadata;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TimeoutsTest {
+
+    @Test
+    public void deadlineFromNow_withoutDeadline() {
+        assertThat(Timeouts.none().deadlineFromNow())
+                .isEqualTo(Timeouts.NONE);
+    }
+
+    @Test
+    public void deadlineFromNow_isNeverNone() {
+        long before = System.nanoTime();
+        long deadline = Timeouts.of(Timeouts.NONE, Timeouts.NONE, Timeouts.NONE, 100).deadlineFromNow();
+
+        assertThat(deadline)
+                .isNotEqualTo(Timeouts.NONE);
+        assertThat(deadline - before)
+                .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+}
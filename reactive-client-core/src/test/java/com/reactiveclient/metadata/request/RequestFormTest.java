@@ -0,0 +1,52 @@
+package com.reactiveclient.metadata.request;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RequestFormTest {
+
+    @Test
+    public void apply_encodesFieldsInParameterOrder() {
+        Map<Integer, String> indexToName = new HashMap<>();
+        indexToName.put(1, "last name");
+        indexToName.put(0, "first");
+
+        FormBody formBody = new RequestForm(indexToName).apply(new Object[]{"Jean-Luc", "Picard & co"});
+
+        assertThat(formBody.toString())
+                .isEqualTo("first=Jean-Luc&last+name=Picard+%26+co");
+    }
+
+    @Test
+    public void apply_repeatsCollectionsAndSkipsNulls() {
+        Map<Integer, String> indexToName = new HashMap<>();
+        indexToName.put(0, "tag");
+        indexToName.put(1, "page");
+        indexToName.put(2, "size");
+
+        FormBody formBody = new RequestForm(indexToName).apply(new Object[]{asList("a", "b"), null, 20});
+
+        assertThat(formBody.toString())
+                .isEqualTo("tag=a&tag=b&size=20");
+    }
+
+    @Test
+    public void apply_keepsFieldsWithTheSameName() {
+        Map<Integer, String> indexToName = new HashMap<>();
+        indexToName.put(0, "tag");
+        indexToName.put(1, "tag");
+
+        FormBody formBody = new RequestForm(indexToName).apply(new Object[]{"a", asList("b", "c")});
+
+        assertThat(formBody.toString())
+                .isEqualTo("tag=a&tag=b&tag=c");
+    }
+}
@@ -0,0 +1,79 @@
+package com.reactiveclient.metadata.request;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RequestQueryTest {
+
+    @Test
+    public void apply_withMap() {
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("name", "Jean Luc");
+        filters.put("rank", null);
+        filters.put("ship", asList("Enterprise", "Stargazer"));
+
+        String query = new RequestQuery(singletonList(0), emptyMap()).apply(new Object[]{filters});
+
+        assertThat(query)
+                .isEqualTo("name=Jean+Luc&ship=Enterprise&ship=Stargazer");
+    }
+
+    @Test
+    public void apply_withQueryObjectSkippingNullProperties() {
+        SearchFilters filters = new SearchFilters();
+        filters.setCity("Paris & co");
+        filters.setMinPrice(10);
+
+        String query = new RequestQuery(emptyList(), singletonMap(0, SearchFilters.class)).apply(new Object[]{filters});
+
+        assertThat(query)
+                .isEqualTo("city=Paris+%26+co&minPrice=10");
+    }
+
+    @Test
+    public void apply_withNullArguments() {
+        assertThat(new RequestQuery(singletonList(0), singletonMap(1, SearchFilters.class)).apply(new Object[]{null, null}))
+                .isNull();
+        assertThat(new RequestQuery(emptyList(), emptyMap()).apply(new Object[]{}))
+                .isNull();
+    }
+
+    private static class SearchFilters {
+        private String city;
+        private Integer minPrice;
+        private List<String> tags;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public Integer getMinPrice() {
+            return minPrice;
+        }
+
+        public void setMinPrice(Integer minPrice) {
+            this.minPrice = minPrice;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+}
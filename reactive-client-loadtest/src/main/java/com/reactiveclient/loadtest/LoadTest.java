@@ -0,0 +1,34 @@
+package com.reactiveclient.loadtest;
+
+import com.reactiveclient.ReactiveClientBuilder;
+
+/**
+ * Drives a {@link LoadTestClient} against a local {@link StubServer} at a fixed arrival rate and prints
+ * the latency percentiles, throughput, connections and garbage collections of the run, e.g.
+ * {@code --rate=5000 --duration=60 --latency=10 --payloadSize=4096 --maxConnections=200}.
+ */
+public class LoadTest {
+
+    public static void main(String[] args) {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println(options);
+
+        try (StubServer server = new StubServer(options.getLatency(), options.getPayloadSize(), options.isCompression())) {
+            LoadTestClient client = ReactiveClientBuilder
+                    .builder()
+                    .name("loadtest")
+                    .maxConnections(options.getMaxConnections())
+                    .acquireTimeout(options.getAcquireTimeout())
+                    .compression(options.isCompression())
+                    .build(LoadTestClient.class, server.getUrl());
+
+            OpenModelLoad load = new OpenModelLoad(client, options.getRate());
+            if (options.getWarmUp() > 0) {
+                load.run(options.getWarmUp(), server);
+            }
+            server.resetMaxConnections();
+            load.run(options.getDuration(), server)
+                    .print(System.out);
+        }
+    }
+}
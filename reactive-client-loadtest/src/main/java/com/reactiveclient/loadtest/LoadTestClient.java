@@ -0,0 +1,11 @@
+package com.reactiveclient.loadtest;
+
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
+
+public interface LoadTestClient {
+
+    @RequestMapping(method = RequestMethod.GET, path = "/payload")
+    Mono<String> payload();
+}
@@ -0,0 +1,48 @@
+package com.reactiveclient.loadtest;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, read from {@code --name=value} arguments.
+ */
+@Getter
+@ToString
+public class LoadTestOptions {
+    private final int rate;
+    private final long duration;
+    private final long warmUp;
+    private final long latency;
+    private final int payloadSize;
+    private final boolean compression;
+    private final int maxConnections;
+    private final long acquireTimeout;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.rate = Integer.parseInt(values.getOrDefault("rate", "1000"));
+        this.duration = Long.parseLong(values.getOrDefault("duration", "30"));
+        this.warmUp = Long.parseLong(values.getOrDefault("warmUp", "5"));
+        this.latency = Long.parseLong(values.getOrDefault("latency", "5"));
+        this.payloadSize = Integer.parseInt(values.getOrDefault("payloadSize", "1024"));
+        this.compression = Boolean.parseBoolean(values.getOrDefault("compression", "false"));
+        this.maxConnections = Integer.parseInt(values.getOrDefault("maxConnections", "500"));
+        this.acquireTimeout = Long.parseLong(values.getOrDefault("acquireTimeout", "45000"));
+        if (rate <= 0 || duration <= 0) {
+            throw new IllegalArgumentException("rate and duration must be strictly positive");
+        }
+    }
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("Invalid argument " + arg + ", expected --name=value");
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+}
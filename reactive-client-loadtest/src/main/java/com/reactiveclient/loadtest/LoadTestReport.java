@@ -0,0 +1,55 @@
+package com.reactiveclient.loadtest;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class LoadTestReport {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Histogram histogram;
+    private final long requests;
+    private final long errors;
+    private final long elapsed;
+    private final int maxConnections;
+    private final long gcCount;
+    private final long gcTime;
+
+    LoadTestReport(Histogram histogram, long requests, long errors, long elapsed, int maxConnections, long gcCount, long gcTime) {
+        this.histogram = histogram;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.maxConnections = maxConnections;
+        this.gcCount = gcCount;
+        this.gcTime = gcTime;
+    }
+
+    /**
+     * Completed requests per second.
+     */
+    public double getThroughput() {
+        return (requests - errors) / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Latency in milliseconds at the given percentile.
+     */
+    public double getLatency(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("requests      %d (%d errors)%n", requests, errors);
+        out.printf("throughput    %.1f req/s%n", getThroughput());
+        out.printf("latency p50   %.3f ms%n", getLatency(50));
+        out.printf("latency p99   %.3f ms%n", getLatency(99));
+        out.printf("latency p99.9 %.3f ms%n", getLatency(99.9));
+        out.printf("latency max   %.3f ms%n", histogram.getMaxValue() / NANOS_PER_MILLI);
+        out.printf("connections   %d%n", maxConnections);
+        out.printf("gc            %d collections, %d ms%n", gcCount, gcTime);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reactiveclient.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends requests at a fixed arrival rate, whatever the latency of the previous ones. The latency of a
+ * request is measured from the time it was scheduled to start, so a stalled client or server shows in the
+ * percentiles instead of silently lowering the load (coordinated omission).
+ */
+public class OpenModelLoad {
+    private final LoadTestClient client;
+    private final int rate;
+
+    public OpenModelLoad(LoadTestClient client, int rate) {
+        this.client = client;
+        this.rate = rate;
+    }
+
+    public LoadTestReport run(long seconds, StubServer server) {
+        long period = TimeUnit.SECONDS.toNanos(1) / rate;
+        long requests = rate * seconds;
+        Histogram histogram = new ConcurrentHistogram(3);
+        LongAdder errors = new LongAdder();
+        long gcCount = gcCount();
+        long gcTime = gcTime();
+
+        long start = System.nanoTime();
+        Flux.interval(Duration.ofNanos(period))
+                .take(requests)
+                .flatMap(tick -> {
+                    long scheduled = start + (tick + 1) * period;
+                    return client.payload()
+                            .doOnError(throwable -> errors.increment())
+                            .doFinally(signal -> histogram.recordValue(Math.max(0, System.nanoTime() - scheduled)))
+                            .then()
+                            .onErrorResume(throwable -> Mono.empty());
+                }, Integer.MAX_VALUE)
+                .blockLast();
+        long elapsed = System.nanoTime() - start;
+
+        return new LoadTestReport(histogram, requests, errors.sum(), elapsed,
+                server.getMaxConnections(), gcCount() - gcCount, gcTime() - gcTime);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                .filter(count -> count > 0)
+                .sum();
+    }
+
+    private static long gcTime() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+}
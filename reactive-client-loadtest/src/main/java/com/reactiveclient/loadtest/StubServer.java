@@ -0,0 +1,61 @@
+package com.reactiveclient.loadtest;
+
+import reactor.core.publisher.Mono;
+import reactor.ipc.netty.NettyContext;
+import reactor.ipc.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactor Netty server answering {@code GET /payload} with a fixed size body after a fixed latency.
+ * It counts its open connections to show how many the client pool really uses.
+ */
+public class StubServer implements AutoCloseable {
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger maxConnections = new AtomicInteger();
+    private final NettyContext context;
+
+    public StubServer(long latency, int payloadSize, boolean compression) {
+        char[] chars = new char[payloadSize];
+        Arrays.fill(chars, 'x');
+        String payload = new String(chars);
+        Duration delay = Duration.ofMillis(latency);
+
+        this.context = HttpServer.create(options -> options
+                .port(0)
+                .compression(compression)
+                .afterChannelInit(channel -> {
+                    maxConnections.accumulateAndGet(connections.incrementAndGet(), Math::max);
+                    channel.closeFuture().addListener(future -> connections.decrementAndGet());
+                }))
+                .newRouter(routes -> routes.get("/payload", (request, response) -> response
+                        .sendString(latency > 0 ? Mono.delay(delay).map(tick -> payload) : Mono.just(payload))))
+                .block();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + context.address().getPort();
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public int getMaxConnections() {
+        return maxConnections.get();
+    }
+
+    /**
+     * Starts counting the peak of a new run from the connections open now, e.g. those kept alive by the warm-up.
+     */
+    public void resetMaxConnections() {
+        maxConnections.set(connections.get());
+    }
+
+    @Override
+    public void close() {
+        context.dispose();
+    }
+}
@@ -0,0 +1,100 @@
+package com.reactiveclient.loadtest.benchmark;
+
+import com.reactiveclient.client.codec.JacksonJsonCodec;
+import com.reactiveclient.client.codec.PrecompiledJsonDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Decoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default Jackson decoder with the precompiled JSON decoders on one response body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonDecodingBenchmark {
+    private static final ResolvableType TYPE = ResolvableType.forClass(Payload.class);
+
+    @Param({"1", "100"})
+    private int items;
+
+    private DefaultDataBufferFactory bufferFactory;
+    private byte[] body;
+    private Decoder<Object> jackson;
+    private Decoder<Object> precompiled;
+    private Decoder<Object> afterburner;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JsonDecodingBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Setup
+    public void setUp() {
+        bufferFactory = new DefaultDataBufferFactory();
+        StringBuilder tags = new StringBuilder();
+        for (int i = 0; i < items; i++) {
+            tags.append(i == 0 ? "" : ",").append("{\"name\":\"tag-").append(i).append("\",\"weight\":").append(i).append('}');
+        }
+        body = ("{\"id\":42,\"title\":\"benchmark\",\"active\":true,\"tags\":[" + tags + "]}").getBytes(StandardCharsets.UTF_8);
+        jackson = new Jackson2JsonDecoder();
+        precompiled = new PrecompiledJsonDecoder(JacksonJsonCodec.defaults(), TYPE);
+        afterburner = new PrecompiledJsonDecoder(JacksonJsonCodec.withAfterburner(), TYPE);
+    }
+
+    @Benchmark
+    public Object jackson() {
+        return decode(jackson);
+    }
+
+    @Benchmark
+    public Object precompiled() {
+        return decode(precompiled);
+    }
+
+    @Benchmark
+    public Object precompiledAfterburner() {
+        return decode(afterburner);
+    }
+
+    private Object decode(Decoder<Object> decoder) {
+        DataBuffer buffer = bufferFactory.wrap(body);
+        return decoder.decodeToMono(Mono.just(buffer), TYPE, MediaType.APPLICATION_JSON, Collections.emptyMap()).block();
+    }
+
+    public static class Payload {
+        public long id;
+        public String title;
+        public boolean active;
+        public Tag[] tags;
+    }
+
+    public static class Tag {
+        public String name;
+        public int weight;
+    }
+}
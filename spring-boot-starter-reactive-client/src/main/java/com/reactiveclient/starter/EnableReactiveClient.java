@@ -20,4 +20,19 @@ public @interface EnableReactiveClient {
     @AliasFor("value")
     String[] basePackages() default {};
 
+    /**
+     * Whether the clients are built on the first call of one of their methods rather than on context refresh.
+     */
+    boolean lazy() default false;
+
+    /**
+     * Number of connections opened by each client before the context is ready, 0 disables the warm up.
+     */
+    int warmUpConnections() default 0;
+
+    /**
+     * Maximum time in milliseconds spent warming up a client.
+     */
+    long warmUpTimeout() default 5000;
+
 }
@@ -0,0 +1,60 @@
+package com.reactiveclient.starter;
+
+import com.reactiveclient.CloseableClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Builds the client on the first call of one of its methods, closing a client not built yet does nothing.
+ */
+class LazyReactiveClientInvocationHandler implements InvocationHandler {
+    private final Class<?> type;
+    private final Supplier<Object> clientSupplier;
+    private volatile Object client;
+
+    LazyReactiveClientInvocationHandler(Class<?> type, Supplier<Object> clientSupplier) {
+        this.type = type;
+        this.clientSupplier = clientSupplier;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Lazy reactive client " + type.getName();
+                default:
+                    return method.invoke(this, args);
+            }
+        }
+        if (method.getDeclaringClass() == CloseableClient.class && client == null) {
+            return null;
+        }
+        try {
+            return method.invoke(getClient(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Object getClient() {
+        Object result = client;
+        if (result == null) {
+            synchronized (this) {
+                result = client;
+                if (result == null) {
+                    result = clientSupplier.get();
+                    client = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -21,4 +21,34 @@ public @interface ReactiveClient {
     String qualifier() default "";
 
     String url() default "";
+
+    int maxConnections() default -1;
+
+    long acquireTimeout() default -1;
+
+    long connectTimeout() default -1;
+
+    long responseTimeout() default -1;
+
+    long readIdleTimeout() default -1;
+
+    long deadline() default -1;
+
+    double rateLimit() default -1;
+
+    int rateLimitBurst() default 1;
+
+    long rateLimitMaxWait() default 0;
+
+    String trustCertificates() default "";
+
+    String keyCertificateChain() default "";
+
+    String key() default "";
+
+    String keyPassword() default "";
+
+    int maxConcurrentCalls() default -1;
+
+    int eventLoopThreads() default -1;
 }
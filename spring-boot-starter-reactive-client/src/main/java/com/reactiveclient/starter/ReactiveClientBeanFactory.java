@@ -1,32 +1,70 @@
 package com.reactiveclient.starter;
 
-import com.reactiveclient.ErrorDecoder;
+import com.reactiveclient.CloseableClient;
+import com.reactiveclient.ConnectionWarmUp;
 import com.reactiveclient.ReactiveClientBuilder;
-import com.reactiveclient.metadata.request.ReactiveRequest;
+import com.reactiveclient.client.limit.RateLimiter;
+import com.reactiveclient.client.tls.TlsOptions;
+import lombok.AccessLevel;
 import lombok.Setter;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.core.ResolvableType;
+import org.springframework.util.StringUtils;
 
-import java.util.List;
-import java.util.Map;
-import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.lang.reflect.Proxy;
 
 @Setter
 public class ReactiveClientBeanFactory implements
         FactoryBean<Object>,
-        ApplicationContextAware {
+        ApplicationContextAware,
+        DisposableBean {
 
     private Class<?> type;
 
     private String url;
 
+    private String name;
+
+    private int maxConnections;
+
+    private long acquireTimeout;
+
+    private long connectTimeout;
+
+    private long responseTimeout;
+
+    private long readIdleTimeout;
+
+    private long deadline;
+
+    private double rateLimit;
+
+    private int rateLimitBurst;
+
+    private long rateLimitMaxWait;
+
+    private String trustCertificates;
+
+    private String keyCertificateChain;
+
+    private String key;
+
+    private String keyPassword;
+
+    private int maxConcurrentCalls;
+
+    private int eventLoopThreads;
+
+    private boolean lazy;
+
     private ApplicationContext applicationContext;
 
+    @Setter(AccessLevel.NONE)
+    private Object client;
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
@@ -34,18 +72,68 @@ public class ReactiveClientBeanFactory implements
 
     @Override
     public Object getObject() throws Exception {
-        Map<String, ErrorDecoder> errorDecoders = applicationContext.getBeansOfType(ErrorDecoder.class);
+        if (client == null) {
+            client = lazy ?
+                    Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type, ConnectionWarmUp.class, CloseableClient.class}, new LazyReactiveClientInvocationHandler(type, this::buildClient)) :
+                    buildClient();
+        }
+        return client;
+    }
 
-        List<Consumer<ReactiveRequest>> requestInterceptorBeans = Stream.of(applicationContext.getBeanNamesForType(ResolvableType.forClassWithGenerics(Consumer.class, ReactiveRequest.class)))
-                .map(applicationContext::getBean)
-                .map(bean -> (Consumer<ReactiveRequest>)bean)
-                .collect(Collectors.toList());
+    @Override
+    public void destroy() {
+        if (client instanceof CloseableClient) {
+            ((CloseableClient) client).close();
+        }
+    }
+
+    private Object buildClient() {
+        ReactiveClientInfrastructure infrastructure = applicationContext.getBean(ReactiveClientInfrastructure.class);
 
-        return ReactiveClientBuilder
+        ReactiveClientBuilder reactiveClientBuilder = ReactiveClientBuilder
                 .builder()
-                .errorDecoders(errorDecoders.values())
-                .requestInterceptors(requestInterceptorBeans)
-                .build(type, url);
+                .errorDecoders(infrastructure.getErrorDecoders())
+                .requestInterceptors(infrastructure.getRequestInterceptors())
+                .codecs(infrastructure.getCodecs())
+                .jsonCodec(infrastructure.getJsonCodec())
+                .fireAndForgetDispatcher(infrastructure.getFireAndForgetDispatcher());
+
+        if (StringUtils.hasText(name)) {
+            reactiveClientBuilder.name(name);
+        }
+        if (maxConnections > 0) {
+            reactiveClientBuilder.maxConnections(maxConnections);
+        }
+        if (acquireTimeout >= 0) {
+            reactiveClientBuilder.acquireTimeout(acquireTimeout);
+        }
+        if (rateLimit > 0) {
+            reactiveClientBuilder.rateLimiter(new RateLimiter(rateLimit, rateLimitBurst, rateLimitMaxWait));
+        }
+        if (maxConcurrentCalls > 0) {
+            reactiveClientBuilder.bulkhead(infrastructure.getBulkhead(StringUtils.hasText(name) ? name : type.getName(), maxConcurrentCalls));
+        }
+        if (eventLoopThreads > 0) {
+            reactiveClientBuilder.eventLoopThreads(eventLoopThreads);
+        }
+        if (StringUtils.hasText(trustCertificates) || StringUtils.hasText(keyCertificateChain)) {
+            TlsOptions.Builder tlsOptions = TlsOptions.newBuilder();
+            if (StringUtils.hasText(trustCertificates)) {
+                tlsOptions.trustCertificates(trustCertificates);
+            }
+            if (StringUtils.hasText(keyCertificateChain)) {
+                tlsOptions.keyManager(keyCertificateChain, StringUtils.hasText(key) ? key : null, StringUtils.hasText(keyPassword) ? keyPassword : null);
+            }
+            reactiveClientBuilder.tls(tlsOptions.build());
+        }
+
+        reactiveClientBuilder
+                .connectTimeout(connectTimeout)
+                .responseTimeout(responseTimeout)
+                .readIdleTimeout(readIdleTimeout)
+                .deadline(deadline);
+
+        return reactiveClientBuilder.build(type, url);
     }
 
     @Override
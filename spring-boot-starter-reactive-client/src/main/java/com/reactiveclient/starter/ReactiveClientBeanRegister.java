@@ -13,6 +13,7 @@ import org.springframework.util.StringUtils;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.List;
 import java.util.Map;
 
 class ReactiveClientBeanRegister {
@@ -20,18 +21,57 @@ class ReactiveClientBeanRegister {
 
     private ResourceLoader resourceLoader;
 
+    private boolean lazy;
+
     public ReactiveClientBeanRegister(BeanDefinitionRegistry registry, ResourceLoader resourceLoader) {
+        this(registry, resourceLoader, false);
+    }
+
+    public ReactiveClientBeanRegister(BeanDefinitionRegistry registry, ResourceLoader resourceLoader, boolean lazy) {
         this.registry = registry;
         this.resourceLoader = resourceLoader;
+        this.lazy = lazy;
+    }
+
+    public void registerInfrastructure() {
+        if (!registry.containsBeanDefinition(ReactiveClientInfrastructure.BEAN_NAME)) {
+            registry.registerBeanDefinition(ReactiveClientInfrastructure.BEAN_NAME,
+                    BeanDefinitionBuilder.genericBeanDefinition(ReactiveClientInfrastructure.class).getBeanDefinition());
+        }
+    }
+
+    public void registerWarmUp(List<String> clientBeanNames, int connections, long timeout) {
+        BeanDefinitionBuilder definition = BeanDefinitionBuilder.genericBeanDefinition(ReactiveClientWarmUp.class);
+        definition.addPropertyValue("clientBeanNames", clientBeanNames);
+        definition.addPropertyValue("connections", connections);
+        definition.addPropertyValue("timeout", timeout);
+        registry.registerBeanDefinition(ReactiveClientWarmUp.BEAN_NAME, definition.getBeanDefinition());
     }
 
-    public void register(AnnotatedBeanDefinition annotatedBeanDefinition){
+    public String register(AnnotatedBeanDefinition annotatedBeanDefinition){
         AnnotationMetadata annotationMetadata = annotatedBeanDefinition.getMetadata();
         annotationMetadata.getEnclosingClassName();
         BeanDefinitionBuilder definition = BeanDefinitionBuilder.genericBeanDefinition(ReactiveClientBeanFactory.class);
         Map<String, Object> attributes = annotationMetadata.getAnnotationAttributes(ReactiveClient.class.getName());
         definition.addPropertyValue("type", annotationMetadata.getClassName());
         definition.addPropertyValue("url", getUrl(attributes));
+        definition.addPropertyValue("name", attributes.get("name"));
+        definition.addPropertyValue("maxConnections", attributes.get("maxConnections"));
+        definition.addPropertyValue("acquireTimeout", attributes.get("acquireTimeout"));
+        definition.addPropertyValue("connectTimeout", attributes.get("connectTimeout"));
+        definition.addPropertyValue("responseTimeout", attributes.get("responseTimeout"));
+        definition.addPropertyValue("readIdleTimeout", attributes.get("readIdleTimeout"));
+        definition.addPropertyValue("deadline", attributes.get("deadline"));
+        definition.addPropertyValue("rateLimit", attributes.get("rateLimit"));
+        definition.addPropertyValue("rateLimitBurst", attributes.get("rateLimitBurst"));
+        definition.addPropertyValue("rateLimitMaxWait", attributes.get("rateLimitMaxWait"));
+        definition.addPropertyValue("trustCertificates", resolve((String) attributes.get("trustCertificates")));
+        definition.addPropertyValue("keyCertificateChain", resolve((String) attributes.get("keyCertificateChain")));
+        definition.addPropertyValue("key", resolve((String) attributes.get("key")));
+        definition.addPropertyValue("keyPassword", resolve((String) attributes.get("keyPassword")));
+        definition.addPropertyValue("maxConcurrentCalls", attributes.get("maxConcurrentCalls"));
+        definition.addPropertyValue("eventLoopThreads", attributes.get("eventLoopThreads"));
+        definition.addPropertyValue("lazy", lazy);
         definition.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
 
         AbstractBeanDefinition beanDefinition = definition.getBeanDefinition();
@@ -41,6 +81,7 @@ class ReactiveClientBeanRegister {
 
         BeanDefinitionHolder holder = new BeanDefinitionHolder(beanDefinition, annotationMetadata.getClassName(), aliases);
         BeanDefinitionReaderUtils.registerBeanDefinition(holder, registry);
+        return holder.getBeanName();
     }
 
     String getUrl(Map<String, Object> attributes) {
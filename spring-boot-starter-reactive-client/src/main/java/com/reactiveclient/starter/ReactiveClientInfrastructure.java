@@ -0,0 +1,137 @@
+package com.reactiveclient.starter;
+
+import com.reactiveclient.ErrorDecoder;
+import com.reactiveclient.client.codec.ClientCodec;
+import com.reactiveclient.client.codec.JsonCodec;
+import com.reactiveclient.client.dispatch.FireAndForgetDispatcher;
+import com.reactiveclient.client.limit.Bulkhead;
+import com.reactiveclient.metadata.request.ReactiveRequest;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.ResolvableType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Beans shared by all the reactive clients of a context, looked up once on first use.
+ * A fire and forget dispatcher is created when the context has none, and drained when the context closes.
+ */
+public class ReactiveClientInfrastructure implements ApplicationContextAware, DisposableBean {
+    public static final String BEAN_NAME = "reactiveClientInfrastructure";
+
+    private ApplicationContext applicationContext;
+
+    private volatile List<ErrorDecoder> errorDecoders;
+
+    private volatile List<Consumer<ReactiveRequest>> requestInterceptors;
+
+    private volatile List<ClientCodec> codecs;
+
+    private volatile Optional<JsonCodec> jsonCodec;
+
+    private volatile FireAndForgetDispatcher fireAndForgetDispatcher;
+
+    private boolean ownsFireAndForgetDispatcher;
+
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    public List<ErrorDecoder> getErrorDecoders() {
+        if (errorDecoders == null) {
+            synchronized (this) {
+                if (errorDecoders == null) {
+                    errorDecoders = Collections.unmodifiableList(new ArrayList<>(applicationContext.getBeansOfType(ErrorDecoder.class).values()));
+                }
+            }
+        }
+        return errorDecoders;
+    }
+
+    public List<Consumer<ReactiveRequest>> getRequestInterceptors() {
+        if (requestInterceptors == null) {
+            synchronized (this) {
+                if (requestInterceptors == null) {
+                    requestInterceptors = Collections.unmodifiableList(Stream.of(applicationContext.getBeanNamesForType(ResolvableType.forClassWithGenerics(Consumer.class, ReactiveRequest.class)))
+                            .map(applicationContext::getBean)
+                            .map(bean -> (Consumer<ReactiveRequest>) bean)
+                            .collect(Collectors.toList()));
+                }
+            }
+        }
+        return requestInterceptors;
+    }
+
+    public List<ClientCodec> getCodecs() {
+        if (codecs == null) {
+            synchronized (this) {
+                if (codecs == null) {
+                    codecs = Collections.unmodifiableList(new ArrayList<>(applicationContext.getBeansOfType(ClientCodec.class).values()));
+                }
+            }
+        }
+        return codecs;
+    }
+
+    public JsonCodec getJsonCodec() {
+        if (jsonCodec == null) {
+            synchronized (this) {
+                if (jsonCodec == null) {
+                    jsonCodec = applicationContext.getBeansOfType(JsonCodec.class).values().stream().findFirst();
+                }
+            }
+        }
+        return jsonCodec.orElse(null);
+    }
+
+    public FireAndForgetDispatcher getFireAndForgetDispatcher() {
+        if (fireAndForgetDispatcher == null) {
+            synchronized (this) {
+                if (fireAndForgetDispatcher == null) {
+                    Optional<FireAndForgetDispatcher> dispatcher = applicationContext.getBeansOfType(FireAndForgetDispatcher.class).values().stream().findFirst();
+                    ownsFireAndForgetDispatcher = !dispatcher.isPresent();
+                    fireAndForgetDispatcher = dispatcher.orElseGet(FireAndForgetDispatcher::defaults);
+                }
+            }
+        }
+        return fireAndForgetDispatcher;
+    }
+
+    /**
+     * Returns the bulkhead shared by the clients of this context with the given name, creating it on first use.
+     */
+    public Bulkhead getBulkhead(String name, int maxConcurrentCalls) {
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(name, key -> new Bulkhead(key, maxConcurrentCalls));
+        if (bulkhead.getMaxConcurrentCalls() != maxConcurrentCalls) {
+            throw new IllegalArgumentException("Bulkhead " + name + " is already declared with " + bulkhead.getMaxConcurrentCalls() + " concurrent calls");
+        }
+        return bulkhead;
+    }
+
+    public Collection<Bulkhead> getBulkheads() {
+        return Collections.unmodifiableCollection(bulkheads.values());
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (fireAndForgetDispatcher != null && ownsFireAndForgetDispatcher) {
+                fireAndForgetDispatcher.close();
+            }
+        }
+    }
+}
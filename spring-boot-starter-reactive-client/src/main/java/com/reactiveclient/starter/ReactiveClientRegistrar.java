@@ -11,7 +11,9 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -32,15 +34,23 @@ public class ReactiveClientRegistrar implements
     @Override
     public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
         ClassPathScanningCandidateComponentProvider scanner = new ReactiveClientCandidateComponentProvider(resourceLoader);
-        ReactiveClientBeanRegister reactiveClientBeanRegister = new ReactiveClientBeanRegister(registry, resourceLoader);
+        Map<String, Object> attributes = metadata.getAnnotationAttributes(EnableReactiveClient.class.getCanonicalName());
+        ReactiveClientBeanRegister reactiveClientBeanRegister = new ReactiveClientBeanRegister(registry, resourceLoader, (Boolean) attributes.get("lazy"));
+        reactiveClientBeanRegister.registerInfrastructure();
+        List<String> clientBeanNames = new ArrayList<>();
         for (String basePackage : getPackagesToScan(metadata)) {
             Set<BeanDefinition> candidateComponents = scanner.findCandidateComponents(basePackage);
             for (BeanDefinition candidateComponent : candidateComponents) {
                 if (candidateComponent instanceof AnnotatedBeanDefinition) {
-                    reactiveClientBeanRegister.register((AnnotatedBeanDefinition)candidateComponent);
+                    clientBeanNames.add(reactiveClientBeanRegister.register((AnnotatedBeanDefinition)candidateComponent));
                 }
             }
         }
+
+        int warmUpConnections = (Integer) attributes.get("warmUpConnections");
+        if (warmUpConnections > 0) {
+            reactiveClientBeanRegister.registerWarmUp(clientBeanNames, warmUpConnections, (Long) attributes.get("warmUpTimeout"));
+        }
     }
 
     Set<String> getPackagesToScan(AnnotationMetadata metadata) {
@@ -0,0 +1,66 @@
+package com.reactiveclient.starter;
+
+import com.reactiveclient.ConnectionWarmUp;
+import lombok.Setter;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Opens the pooled connections of the reactive clients once all singletons are created,
+ * so that the first requests do not pay for DNS resolution, TCP and TLS handshakes.
+ */
+@Setter
+public class ReactiveClientWarmUp implements
+        SmartInitializingSingleton,
+        ApplicationContextAware {
+    public static final String BEAN_NAME = "reactiveClientWarmUp";
+
+    private static final Log logger = LogFactory.getLog(ReactiveClientWarmUp.class);
+
+    private List<String> clientBeanNames;
+
+    private int connections;
+
+    private long timeout;
+
+    private ApplicationContext applicationContext;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Duration warmUpTimeout = Duration.ofMillis(timeout);
+        Flux.fromIterable(clientBeanNames)
+                .flatMap(clientBeanName -> warmUp(clientBeanName, warmUpTimeout))
+                .then()
+                .block();
+    }
+
+    private Mono<Integer> warmUp(String clientBeanName, Duration warmUpTimeout) {
+        Object client = applicationContext.getBean(clientBeanName);
+        if (!(client instanceof ConnectionWarmUp)) {
+            return Mono.empty();
+        }
+        long start = System.nanoTime();
+        return ((ConnectionWarmUp) client).warmUp(connections)
+                .timeout(warmUpTimeout)
+                .doOnSuccess(opened -> logger.info("Reactive client " + clientBeanName + ": " + opened + "/" + connections
+                        + " connections opened in " + Duration.ofNanos(System.nanoTime() - start).toMillis() + " ms"))
+                .onErrorResume(throwable -> {
+                    logger.warn("Reactive client " + clientBeanName + ": warm up failed", throwable);
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,12 @@
+package com.reactiveclient.starter.lazy;
+
+import com.reactiveclient.starter.ReactiveClient;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import reactor.core.publisher.Mono;
+
+@ReactiveClient(url = "http://localhost:8081")
+public interface LazyHelloClient {
+    @RequestMapping(method = RequestMethod.GET, path = "/hello")
+    Mono<String> getHello();
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013-2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.reactiveclient.starter.lazy;
+
+import com.reactiveclient.starter.EnableReactiveClient;
+import com.reactiveclient.starter.ReactiveClientInfrastructure;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@SpringBootTest(classes = LazyReactiveClientTests.Application.class,
+        webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT,
+        value = {"spring.application.name=reactiveClientTest", "server.port=8081"})
+@DirtiesContext
+public class LazyReactiveClientTests {
+
+    @Autowired
+    private LazyHelloClient lazyHelloClient;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    public void lazyClient() {
+        assertThat(Proxy.isProxyClass(lazyHelloClient.getClass()))
+                .isTrue();
+        assertThat(lazyHelloClient.toString())
+                .startsWith("Lazy reactive client");
+
+        StepVerifier.create(lazyHelloClient.getHello())
+                .expectNext("hello")
+                .verifyComplete();
+    }
+
+    @Test
+    public void infrastructure_registeredOnce() {
+        assertThat(applicationContext.getBeansOfType(ReactiveClientInfrastructure.class))
+                .hasSize(1);
+    }
+
+    @RestController
+    @EnableReactiveClient(lazy = true)
+    @SpringBootApplication
+    protected static class Application {
+
+        public static void main(String[] args) {
+            new SpringApplicationBuilder(LazyReactiveClientTests.Application.class)
+                    .properties("spring.application.name=reactiveClientTests")
+                    .run(args);
+        }
+
+        @RequestMapping(method = RequestMethod.GET, path = "/hello")
+        public Mono<String> getHello() {
+            return Mono.just("hello");
+        }
+    }
+}